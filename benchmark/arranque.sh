@@ -0,0 +1,105 @@
+#!/usr/bin/env bash
+#
+# Benchmark de arranque: compara el tiempo hasta la primera respuesta HTTP y la
+# memoria residente (RSS) del build completo con el build del perfil
+# arranque-rapido (dependencias mínimas + Spring AOT + Class Data Sharing) y,
+# opcionalmente, con la imagen nativa de GraalVM.
+#
+# Uso:
+#   benchmark/arranque.sh
+#
+# Variables de entorno:
+#   REPETICIONES  Número de arranques por variante (por defecto 5).
+#   PUERTO        Puerto HTTP usado por la aplicación (por defecto 18080).
+#   ARGS_APP      Argumentos adicionales para la aplicación, por ejemplo la URL
+#                 de la base de datos (--spring.datasource.url=...).
+#   NATIVO        Si vale 1, compila y mide también la imagen nativa
+#                 (requiere native-image de GraalVM en el PATH).
+#
+set -euo pipefail
+
+RAIZ=$(cd "$(dirname "$0")/.." && pwd)
+TRABAJO="${TMPDIR:-/tmp}/cursosbdd-benchmark-arranque"
+REPETICIONES=${REPETICIONES:-5}
+PUERTO=${PUERTO:-18080}
+ARGS_APP=${ARGS_APP:-}
+NATIVO=${NATIVO:-0}
+CLASE_PRINCIPAL=com.viewnext.kidaprojects.cursosbdd.CursosBddApplication
+JAR=cursosBDD-0.0.1-SNAPSHOT.jar
+
+mvn_build() {
+	sh "$RAIZ/mvnw" -q -B -DskipTests -f "$RAIZ/pom.xml" "$@"
+}
+
+# Arranca el comando recibido, espera a la primera respuesta HTTP y escribe
+# "<milisegundos> <rss en KiB>" en la salida estándar.
+medir_arranque() {
+	local inicio fin pid rss
+	inicio=$(date +%s%N)
+	"$@" --server.port="$PUERTO" $ARGS_APP > "$TRABAJO/ultima-ejecucion.log" 2>&1 &
+	pid=$!
+	until curl -s -o /dev/null "http://localhost:$PUERTO/actuator/health"; do
+		if ! kill -0 "$pid" 2> /dev/null; then
+			echo "La aplicación ha terminado antes de arrancar, ver $TRABAJO/ultima-ejecucion.log" >&2
+			exit 1
+		fi
+		sleep 0.02
+	done
+	fin=$(date +%s%N)
+	rss=$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status")
+	kill "$pid"
+	wait "$pid" 2> /dev/null || true
+	echo "$(( (fin - inicio) / 1000000 )) $rss"
+}
+
+mediana() {
+	sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+medir_variante() {
+	local nombre=$1
+	shift
+	local resultados="$TRABAJO/$nombre.txt"
+	: > "$resultados"
+	for _ in $(seq "$REPETICIONES"); do
+		medir_arranque "$@" >> "$resultados"
+	done
+	printf '%-12s %10s ms %10s KiB\n' "$nombre" \
+		"$(cut -d' ' -f1 "$resultados" | mediana)" "$(cut -d' ' -f2 "$resultados" | mediana)"
+}
+
+rm -rf "$TRABAJO"
+mkdir -p "$TRABAJO"
+
+echo "Compilando el build completo..."
+mvn_build clean package
+cp "$RAIZ/target/$JAR" "$TRABAJO/completo.jar"
+
+echo "Compilando el build arranque-rapido..."
+mvn_build -Drapido clean package
+mkdir -p "$TRABAJO/rapido"
+cp "$RAIZ/target/$JAR" "$TRABAJO/rapido.jar"
+(cd "$TRABAJO/rapido" && jar -xf "$TRABAJO/rapido.jar")
+
+# CDS necesita un classpath plano, estable entre el volcado y la ejecución y
+# formado solo por jars (no admite directorios con contenido).
+jar -cf "$TRABAJO/rapido/clases.jar" -C "$TRABAJO/rapido/BOOT-INF/classes" .
+CLASSPATH_RAPIDO="$TRABAJO/rapido/clases.jar:$(ls "$TRABAJO"/rapido/BOOT-INF/lib/*.jar | sort | paste -sd:)"
+OPCIONES_RAPIDO=(-Dspring.aot.enabled=true -Dspring.profiles.active=rapido)
+
+echo "Generando el archivo CDS..."
+java "${OPCIONES_RAPIDO[@]}" -XX:ArchiveClassesAtExit="$TRABAJO/rapido.jsa" -cp "$CLASSPATH_RAPIDO" \
+	"$CLASE_PRINCIPAL" --cursos.arranque.salir-tras-iniciar=true --server.port="$PUERTO" $ARGS_APP \
+	> "$TRABAJO/entrenamiento-cds.log" 2>&1
+
+echo
+printf '%-12s %13s %14s\n' "variante" "arranque" "RSS"
+medir_variante completo java -jar "$TRABAJO/completo.jar"
+medir_variante rapido java "${OPCIONES_RAPIDO[@]}" -XX:SharedArchiveFile="$TRABAJO/rapido.jsa" \
+	-cp "$CLASSPATH_RAPIDO" "$CLASE_PRINCIPAL"
+
+if [ "$NATIVO" = "1" ]; then
+	echo "Compilando la imagen nativa..."
+	mvn_build -Drapido -Pnative clean native:compile
+	medir_variante nativo "$RAIZ/target/cursosBDD" -Dspring.profiles.active=rapido
+fi
@@ -0,0 +1,188 @@
+package com.viewnext.kidaprojects.cursosbdd.admision;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración del control de admisión.
+ *
+ * <p>
+ * La clase {@code AdmisionProperties} agrupa las propiedades con prefijo
+ * {@code cursos.admision}. Cada endpoint recibe su propio {@link LimitadorAimd}
+ * configurado según su prioridad: las consultas baratas y las escrituras usan
+ * los valores de {@code alta}, y los listados costosos indicados en
+ * {@code rutas-baja-prioridad} usan los valores de {@code baja}.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@ConfigurationProperties(prefix = "cursos.admision")
+public class AdmisionProperties {
+
+	/**
+	 * Activa o desactiva el control de admisión.
+	 */
+	private boolean habilitada = true;
+
+	/**
+	 * Latencia a partir de la cual una petición se considera lenta y reduce el límite.
+	 */
+	private Duration latenciaObjetivo = Duration.ofMillis(250);
+
+	/**
+	 * Factor por el que se multiplica el límite ante una petición lenta o fallida.
+	 */
+	private double factorReduccion = 0.9;
+
+	/**
+	 * Tiempo que se indica al cliente en la cabecera Retry-After de las respuestas 503.
+	 */
+	private Duration reintentarTras = Duration.ofSeconds(1);
+
+	/**
+	 * Patrones de ruta cuyas peticiones GET se tratan como de baja prioridad.
+	 */
+	private List<String> rutasBajaPrioridad = new ArrayList<>(List.of("/cursos", "/cursos/rango"));
+
+	private final Limites alta = Limites.de(20, 2, 200, 100, Duration.ofMillis(500));
+
+	private final Limites baja = Limites.de(4, 1, 20, 10, Duration.ofMillis(100));
+
+	public boolean isHabilitada() {
+		return habilitada;
+	}
+
+	public void setHabilitada(boolean habilitada) {
+		this.habilitada = habilitada;
+	}
+
+	public Duration getLatenciaObjetivo() {
+		return latenciaObjetivo;
+	}
+
+	public void setLatenciaObjetivo(Duration latenciaObjetivo) {
+		this.latenciaObjetivo = latenciaObjetivo;
+	}
+
+	public double getFactorReduccion() {
+		return factorReduccion;
+	}
+
+	public void setFactorReduccion(double factorReduccion) {
+		this.factorReduccion = factorReduccion;
+	}
+
+	public Duration getReintentarTras() {
+		return reintentarTras;
+	}
+
+	public void setReintentarTras(Duration reintentarTras) {
+		this.reintentarTras = reintentarTras;
+	}
+
+	public List<String> getRutasBajaPrioridad() {
+		return rutasBajaPrioridad;
+	}
+
+	public void setRutasBajaPrioridad(List<String> rutasBajaPrioridad) {
+		this.rutasBajaPrioridad = rutasBajaPrioridad;
+	}
+
+	public Limites getAlta() {
+		return alta;
+	}
+
+	public Limites getBaja() {
+		return baja;
+	}
+
+	/**
+	 * Límites de concurrencia y cola aplicados a cada endpoint de una misma prioridad.
+	 */
+	public static class Limites {
+
+		/**
+		 * Límite de concurrencia con el que arranca cada endpoint.
+		 */
+		private int limiteInicial;
+
+		/**
+		 * Límite por debajo del cual nunca se reduce la concurrencia.
+		 */
+		private int limiteMinimo;
+
+		/**
+		 * Límite por encima del cual nunca se incrementa la concurrencia.
+		 */
+		private int limiteMaximo;
+
+		/**
+		 * Número máximo de peticiones que pueden esperar a la vez un permiso.
+		 */
+		private int cola;
+
+		/**
+		 * Tiempo máximo que una petición espera en la cola antes de ser rechazada.
+		 */
+		private Duration esperaMaxima;
+
+		private static Limites de(int limiteInicial, int limiteMinimo, int limiteMaximo, int cola,
+				Duration esperaMaxima) {
+			Limites limites = new Limites();
+			limites.limiteInicial = limiteInicial;
+			limites.limiteMinimo = limiteMinimo;
+			limites.limiteMaximo = limiteMaximo;
+			limites.cola = cola;
+			limites.esperaMaxima = esperaMaxima;
+			return limites;
+		}
+
+		public int getLimiteInicial() {
+			return limiteInicial;
+		}
+
+		public void setLimiteInicial(int limiteInicial) {
+			this.limiteInicial = limiteInicial;
+		}
+
+		public int getLimiteMinimo() {
+			return limiteMinimo;
+		}
+
+		public void setLimiteMinimo(int limiteMinimo) {
+			this.limiteMinimo = limiteMinimo;
+		}
+
+		public int getLimiteMaximo() {
+			return limiteMaximo;
+		}
+
+		public void setLimiteMaximo(int limiteMaximo) {
+			this.limiteMaximo = limiteMaximo;
+		}
+
+		public int getCola() {
+			return cola;
+		}
+
+		public void setCola(int cola) {
+			this.cola = cola;
+		}
+
+		public Duration getEsperaMaxima() {
+			return esperaMaxima;
+		}
+
+		public void setEsperaMaxima(Duration esperaMaxima) {
+			this.esperaMaxima = esperaMaxima;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.viewnext.kidaprojects.cursosbdd.admision;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Interceptor que aplica el control de admisión a los endpoints de la API.
+ *
+ * <p>
+ * La clase {@code ControlAdmisionInterceptor} asigna a cada endpoint (método HTTP
+ * más patrón de ruta) un {@link LimitadorAimd} propio. Antes de ejecutar el
+ * controlador solicita un permiso al limitador; si no lo obtiene responde de
+ * inmediato con un 503 y la cabecera {@code Retry-After}, sin llegar a pedir una
+ * conexión al pool de la base de datos. Al terminar la petición libera el permiso
+ * e informa de la latencia observada para que el límite se adapte.
+ * </p>
+ *
+ * <p>
+ * Los listados costosos son de baja prioridad: además de tener límites más
+ * estrictos, se rechazan directamente mientras haya peticiones de alta prioridad
+ * esperando en alguna cola, de modo que una ráfaga de volcados del catálogo no
+ * pueda dejar sin servicio a las consultas por código ni a las escrituras.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class ControlAdmisionInterceptor implements HandlerInterceptor {
+
+	private static final String ATRIBUTO_LIMITADOR = ControlAdmisionInterceptor.class.getName() + ".limitador";
+	private static final String ATRIBUTO_INICIO = ControlAdmisionInterceptor.class.getName() + ".inicio";
+	private static final String SERVICIO_SATURADO = "Servicio saturado, inténtelo de nuevo más tarde";
+
+	private final AdmisionProperties propiedades;
+	private final Set<String> rutasBajaPrioridad;
+	private final Map<String, LimitadorAimd> limitadoresAlta = new ConcurrentHashMap<>();
+	private final Map<String, LimitadorAimd> limitadoresBaja = new ConcurrentHashMap<>();
+
+	public ControlAdmisionInterceptor(AdmisionProperties propiedades) {
+		this.propiedades = propiedades;
+		this.rutasBajaPrioridad = Set.copyOf(propiedades.getRutasBajaPrioridad());
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+			throws IOException {
+		String patron = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		if (patron == null) {
+			return true;
+		}
+
+		boolean bajaPrioridad = HttpMethod.GET.matches(request.getMethod()) && rutasBajaPrioridad.contains(patron);
+		AdmisionProperties.Limites limites = bajaPrioridad ? propiedades.getBaja() : propiedades.getAlta();
+		Map<String, LimitadorAimd> limitadores = bajaPrioridad ? limitadoresBaja : limitadoresAlta;
+		LimitadorAimd limitador = limitadores.computeIfAbsent(request.getMethod() + " " + patron,
+				clave -> crearLimitador(limites));
+
+		if (bajaPrioridad && hayEsperaAltaPrioridad()) {
+			rechazar(response);
+			return false;
+		}
+
+		boolean admitida;
+		try {
+			admitida = limitador.adquirir(limites.getEsperaMaxima().toNanos());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			admitida = false;
+		}
+
+		if (!admitida) {
+			rechazar(response);
+			return false;
+		}
+
+		request.setAttribute(ATRIBUTO_LIMITADOR, limitador);
+		request.setAttribute(ATRIBUTO_INICIO, System.nanoTime());
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		LimitadorAimd limitador = (LimitadorAimd) request.getAttribute(ATRIBUTO_LIMITADOR);
+		if (limitador == null) {
+			return;
+		}
+		long inicio = (Long) request.getAttribute(ATRIBUTO_INICIO);
+		boolean fallo = ex != null || response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+		limitador.liberar(System.nanoTime() - inicio, fallo);
+	}
+
+	private LimitadorAimd crearLimitador(AdmisionProperties.Limites limites) {
+		return new LimitadorAimd(limites.getLimiteInicial(), limites.getLimiteMinimo(), limites.getLimiteMaximo(),
+				limites.getCola(), propiedades.getLatenciaObjetivo().toNanos(), TimeUnit.NANOSECONDS,
+				propiedades.getFactorReduccion());
+	}
+
+	private boolean hayEsperaAltaPrioridad() {
+		for (LimitadorAimd limitador : limitadoresAlta.values()) {
+			if (limitador.getEnEspera() > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void rechazar(HttpServletResponse response) throws IOException {
+		response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER,
+				String.valueOf(Math.max(1, propiedades.getReintentarTras().toSeconds())));
+		response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		response.getWriter().write(SERVICIO_SATURADO);
+	}
+
+	/**
+	 * Devuelve una vista de los limitadores creados hasta el momento, indexados por
+	 * endpoint.
+	 *
+	 * @return Un mapa con los limitadores de todos los endpoints.
+	 */
+	public Map<String, LimitadorAimd> getLimitadores() {
+		Map<String, LimitadorAimd> todos = new ConcurrentHashMap<>(limitadoresAlta);
+		todos.putAll(limitadoresBaja);
+		return todos;
+	}
+}
@@ -0,0 +1,183 @@
+package com.viewnext.kidaprojects.cursosbdd.admision;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limitador de concurrencia adaptativo basado en AIMD (incremento aditivo,
+ * decremento multiplicativo).
+ *
+ * <p>
+ * La clase {@code LimitadorAimd} controla cuántas peticiones de un mismo endpoint
+ * pueden ejecutarse a la vez. Cada petición que termina por debajo de la latencia
+ * objetivo incrementa el límite en {@code 1 / limite} (aproximadamente una unidad
+ * por ventana completa), mientras que una petición lenta o fallida lo reduce
+ * multiplicándolo por el factor de reducción. Las peticiones que no obtienen
+ * permiso esperan en una cola acotada durante un tiempo máximo; si la cola está
+ * llena o el tiempo se agota, la petición se rechaza.
+ * </p>
+ *
+ * <p>
+ * La cola se atiende por orden de llegada: una petición nueva solo entra
+ * directamente si no hay nadie esperando, y cada permiso que queda libre pasa a
+ * la primera petición de la cola.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class LimitadorAimd {
+
+	private final ReentrantLock cerrojo = new ReentrantLock();
+	private final Deque<Condition> cola = new ArrayDeque<>();
+
+	private final int limiteMinimo;
+	private final int limiteMaximo;
+	private final int capacidadCola;
+	private final long latenciaObjetivoNanos;
+	private final double factorReduccion;
+
+	private double limite;
+	private int enCurso;
+
+	/**
+	 * Crea un nuevo limitador.
+	 *
+	 * @param limiteInicial    El límite de concurrencia con el que arranca el limitador.
+	 * @param limiteMinimo     El límite por debajo del cual nunca se reduce.
+	 * @param limiteMaximo     El límite por encima del cual nunca se incrementa.
+	 * @param capacidadCola    El número máximo de peticiones que pueden esperar a la vez.
+	 * @param latenciaObjetivo La latencia a partir de la cual una petición se considera lenta.
+	 * @param unidad           La unidad de tiempo de {@code latenciaObjetivo}.
+	 * @param factorReduccion  El factor por el que se multiplica el límite ante una petición lenta o fallida.
+	 */
+	public LimitadorAimd(int limiteInicial, int limiteMinimo, int limiteMaximo, int capacidadCola,
+			long latenciaObjetivo, TimeUnit unidad, double factorReduccion) {
+		if (limiteMinimo < 1 || limiteMaximo < limiteMinimo) {
+			throw new IllegalArgumentException("Límites de concurrencia inválidos");
+		}
+		if (factorReduccion <= 0 || factorReduccion >= 1) {
+			throw new IllegalArgumentException("El factor de reducción debe estar entre 0 y 1");
+		}
+		this.limiteMinimo = limiteMinimo;
+		this.limiteMaximo = limiteMaximo;
+		this.capacidadCola = Math.max(0, capacidadCola);
+		this.latenciaObjetivoNanos = unidad.toNanos(latenciaObjetivo);
+		this.factorReduccion = factorReduccion;
+		this.limite = Math.max(limiteMinimo, Math.min(limiteMaximo, limiteInicial));
+	}
+
+	/**
+	 * Intenta obtener un permiso de ejecución, esperando en la cola como mucho el
+	 * tiempo indicado.
+	 *
+	 * @param esperaMaximaNanos El tiempo máximo de espera en nanosegundos.
+	 * @return {@code true} si se obtiene el permiso, {@code false} si la cola está
+	 *         llena o se agota el tiempo de espera.
+	 * @throws InterruptedException Si el hilo se interrumpe mientras espera.
+	 */
+	public boolean adquirir(long esperaMaximaNanos) throws InterruptedException {
+		cerrojo.lock();
+		try {
+			if (cola.isEmpty() && enCurso < limiteEntero()) {
+				enCurso++;
+				return true;
+			}
+			if (cola.size() >= capacidadCola || esperaMaximaNanos <= 0) {
+				return false;
+			}
+
+			Condition turno = cerrojo.newCondition();
+			cola.addLast(turno);
+			try {
+				long restante = esperaMaximaNanos;
+				while (cola.peekFirst() != turno || enCurso >= limiteEntero()) {
+					if (restante <= 0) {
+						return false;
+					}
+					restante = turno.awaitNanos(restante);
+				}
+				enCurso++;
+				return true;
+			} finally {
+				// Al salir de la cabeza de la cola, por permiso, tiempo agotado o interrupción, avisa al siguiente.
+				boolean primero = cola.peekFirst() == turno;
+				cola.remove(turno);
+				if (primero) {
+					avisarPrimero();
+				}
+			}
+		} finally {
+			cerrojo.unlock();
+		}
+	}
+
+	/**
+	 * Libera un permiso obtenido con {@link #adquirir(long)} y ajusta el límite
+	 * según la latencia observada.
+	 *
+	 * @param latenciaNanos La latencia de la petición en nanosegundos.
+	 * @param fallo         {@code true} si la petición ha terminado con error.
+	 */
+	public void liberar(long latenciaNanos, boolean fallo) {
+		cerrojo.lock();
+		try {
+			boolean saturado = enCurso * 2 >= limiteEntero();
+			enCurso--;
+
+			if (fallo || latenciaNanos > latenciaObjetivoNanos) {
+				limite = Math.max(limiteMinimo, limite * factorReduccion);
+			} else if (saturado) {
+				limite = Math.min(limiteMaximo, limite + 1.0 / limite);
+			}
+
+			avisarPrimero();
+		} finally {
+			cerrojo.unlock();
+		}
+	}
+
+	private void avisarPrimero() {
+		if (!cola.isEmpty() && enCurso < limiteEntero()) {
+			cola.peekFirst().signal();
+		}
+	}
+
+	private int limiteEntero() {
+		return (int) limite;
+	}
+
+	public int getLimite() {
+		cerrojo.lock();
+		try {
+			return limiteEntero();
+		} finally {
+			cerrojo.unlock();
+		}
+	}
+
+	public int getEnCurso() {
+		cerrojo.lock();
+		try {
+			return enCurso;
+		} finally {
+			cerrojo.unlock();
+		}
+	}
+
+	public int getEnEspera() {
+		cerrojo.lock();
+		try {
+			return cola.size();
+		} finally {
+			cerrojo.unlock();
+		}
+	}
+}
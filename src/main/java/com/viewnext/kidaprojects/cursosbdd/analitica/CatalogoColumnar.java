@@ -0,0 +1,455 @@
+package com.viewnext.kidaprojects.cursosbdd.analitica;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.viewnext.kidaprojects.cursosbdd.event.CursoBorradoEvent;
+import com.viewnext.kidaprojects.cursosbdd.event.CursosGuardadosEvent;
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+import com.viewnext.kidaprojects.cursosbdd.repository.CursoRepository;
+
+/**
+ * Copia en columnas del catálogo de cursos para consultas analíticas.
+ *
+ * <p>
+ * La clase {@code CatalogoColumnar} guarda el precio, las horas y el nombre de
+ * cada curso en columnas de enteros fuera del heap ({@code ByteBuffer} directos),
+ * una fila por curso. Los nombres se codifican con un diccionario: la columna
+ * guarda el identificador del nombre y el texto se guarda una sola vez. Así las
+ * agregaciones recorren arrays de enteros sin crear un solo {@code Curso}.
+ * </p>
+ *
+ * <p>
+ * El catálogo se carga de la base de datos la primera vez que se consulta y a
+ * partir de ahí se actualiza con los eventos de escritura del servicio. Un borrado
+ * marca la fila como borrada y la deja libre para el siguiente alta, de modo que
+ * las columnas no crecen con los borrados. Las consultas recorren las columnas en
+ * bloques de {@value #TAMANO_BLOQUE} filas en paralelo, con bucles simples sobre
+ * enteros que el compilador JIT puede vectorizar.
+ * </p>
+ *
+ * <p>
+ * El índice de códigos y el diccionario de nombres siguen en el heap. Los nombres
+ * que dejan de usarse no se eliminan del diccionario.
+ * </p>
+ *
+ * <p>
+ * En lugar de cargarse de la base de datos también puede instalarse desde una
+ * instantánea guardada en disco con {@link #instalar(ColumnasCursos)}.
+ * </p>
+ *
+ * <p>
+ * Se activa con la propiedad {@code cursos.columnar.habilitado=true}.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@Component
+@ConditionalOnProperty(prefix = "cursos.columnar", name = "habilitado", havingValue = "true")
+public class CatalogoColumnar {
+
+	static final int TAMANO_BLOQUE = 1 << 16;
+	static final int MAXIMO_TRAMOS = 10_000;
+
+	private static final int SIN_NOMBRE = -1;
+	private static final int CAPACIDAD_MAXIMA = Integer.MAX_VALUE / Integer.BYTES;
+
+	@Autowired
+	private CursoRepository cursoRepository;
+
+	private final ReentrantReadWriteLock cerrojo = new ReentrantReadWriteLock();
+	private final Map<String, Integer> filaPorCodigo = new HashMap<>();
+	private final Map<String, Integer> idPorNombre = new HashMap<>();
+	private final List<String> nombres = new ArrayList<>();
+
+	private IntBuffer precios;
+	private IntBuffer horas;
+	private IntBuffer idsNombre;
+	private ByteBuffer vivos;
+	private int capacidad;
+	private int filas;
+	private int[] libres = new int[16];
+	private int numeroLibres;
+	private volatile boolean cargado;
+
+	public CatalogoColumnar(@Value("${cursos.columnar.capacidad-inicial:1024}") int capacidadInicial) {
+		reservar(Math.max(capacidadInicial, 16));
+	}
+
+	/**
+	 * Agrupa los cursos en tramos de precio de ancho fijo y calcula, para cada
+	 * tramo con cursos, el número de cursos y la suma y la media de precios y horas.
+	 *
+	 * @param anchoTramo El ancho de cada tramo de precio.
+	 * @return Los tramos con algún curso, ordenados de menor a mayor precio.
+	 * @throws IllegalArgumentException Si el ancho no es positivo o salen más de
+	 *                                  {@value #MAXIMO_TRAMOS} tramos.
+	 */
+	public List<TramoPrecio> resumenPorTramoPrecio(int anchoTramo) {
+		if (anchoTramo < 1) {
+			throw new IllegalArgumentException("El ancho del tramo debe ser positivo");
+		}
+		cargar();
+
+		cerrojo.readLock().lock();
+		try {
+			int[] extremos = bloques().mapToObj(this::extremosPrecio).reduce(CatalogoColumnar::unirExtremos)
+					.orElse(null);
+			if (extremos == null || extremos[0] > extremos[1]) {
+				return List.of();
+			}
+			long base = Math.floorDiv(extremos[0], anchoTramo) * (long) anchoTramo;
+			long numeroTramos = (extremos[1] - base) / anchoTramo + 1;
+			if (numeroTramos > MAXIMO_TRAMOS) {
+				throw new IllegalArgumentException("El ancho del tramo genera más de " + MAXIMO_TRAMOS + " tramos");
+			}
+
+			Acumulado total = bloques()
+					.mapToObj(bloque -> acumularPorTramo(bloque, base, anchoTramo, (int) numeroTramos))
+					.reduce(Acumulado::sumar).orElseThrow();
+
+			List<TramoPrecio> tramos = new ArrayList<>();
+			for (int tramo = 0; tramo < numeroTramos; tramo++) {
+				long cursos = total.cursos[tramo];
+				if (cursos > 0) {
+					long desde = base + (long) tramo * anchoTramo;
+					tramos.add(new TramoPrecio(desde, desde + anchoTramo - 1, cursos, total.sumaPrecios[tramo],
+							(double) total.sumaPrecios[tramo] / cursos, total.sumaHoras[tramo],
+							(double) total.sumaHoras[tramo] / cursos));
+				}
+			}
+			return tramos;
+		} finally {
+			cerrojo.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Cuenta los cursos cuyas horas están entre {@code minimo} y {@code maximo},
+	 * ambos incluidos, opcionalmente solo los que tienen un nombre concreto.
+	 *
+	 * @param minimo El mínimo de horas.
+	 * @param maximo El máximo de horas.
+	 * @param nombre El nombre exacto de los cursos a contar, o {@code null} para contarlos todos.
+	 * @return El número de cursos.
+	 */
+	public ConteoHoras contarPorRangoHoras(int minimo, int maximo, String nombre) {
+		cargar();
+
+		cerrojo.readLock().lock();
+		try {
+			long cursos;
+			if (nombre == null) {
+				cursos = bloques().mapToLong(bloque -> contarHoras(bloque, minimo, maximo)).sum();
+			} else {
+				Integer id = idPorNombre.get(nombre);
+				cursos = id == null ? 0
+						: bloques().mapToLong(bloque -> contarHorasConNombre(bloque, minimo, maximo, id)).sum();
+			}
+			return new ConteoHoras(minimo, maximo, nombre, cursos);
+		} finally {
+			cerrojo.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Devuelve el número de cursos del catálogo, cargándolo si hace falta.
+	 *
+	 * @return El número de cursos.
+	 */
+	public int getNumeroCursos() {
+		cargar();
+
+		cerrojo.readLock().lock();
+		try {
+			return filaPorCodigo.size();
+		} finally {
+			cerrojo.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Copia las filas vivas del catálogo en columnas compactas.
+	 *
+	 * @return Las columnas del catálogo, o {@code null} si todavía no se ha cargado.
+	 */
+	public ColumnasCursos exportar() {
+		cerrojo.readLock().lock();
+		try {
+			if (!cargado) {
+				return null;
+			}
+			int numeroCursos = filaPorCodigo.size();
+			List<String> codigos = new ArrayList<>(numeroCursos);
+			IntBuffer preciosVivos = IntBuffer.allocate(numeroCursos);
+			IntBuffer horasVivas = IntBuffer.allocate(numeroCursos);
+			IntBuffer idsNombreVivos = IntBuffer.allocate(numeroCursos);
+			for (Map.Entry<String, Integer> entrada : filaPorCodigo.entrySet()) {
+				int fila = entrada.getValue();
+				codigos.add(entrada.getKey());
+				preciosVivos.put(precios.get(fila));
+				horasVivas.put(horas.get(fila));
+				idsNombreVivos.put(idsNombre.get(fila));
+			}
+			return new ColumnasCursos(codigos, List.copyOf(nombres), preciosVivos.flip(), horasVivas.flip(),
+					idsNombreVivos.flip());
+		} finally {
+			cerrojo.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Instala un catálogo completo en lugar de cargarlo de la base de datos. Las
+	 * columnas de enteros se copian en bloque.
+	 *
+	 * @param columnas Las columnas con todos los cursos del catálogo.
+	 * @return {@code true} si se ha instalado, {@code false} si el catálogo ya estaba cargado.
+	 */
+	public boolean instalar(ColumnasCursos columnas) {
+		cerrojo.writeLock().lock();
+		try {
+			if (cargado) {
+				return false;
+			}
+			int numeroCursos = columnas.tamano();
+			if (numeroCursos > capacidad) {
+				reservar(numeroCursos);
+			}
+			for (String nombre : columnas.nombres()) {
+				idPorNombre.put(nombre, nombres.size());
+				nombres.add(nombre);
+			}
+			precios.put(0, columnas.precios(), 0, numeroCursos);
+			horas.put(0, columnas.horas(), 0, numeroCursos);
+			idsNombre.put(0, columnas.idsNombre(), 0, numeroCursos);
+			for (int fila = 0; fila < numeroCursos; fila++) {
+				vivos.put(fila, (byte) 1);
+				filaPorCodigo.put(columnas.codigos().get(fila), fila);
+			}
+			filas = numeroCursos;
+			cargado = true;
+			return true;
+		} finally {
+			cerrojo.writeLock().unlock();
+		}
+	}
+
+	@EventListener
+	public void alGuardar(CursosGuardadosEvent evento) {
+		cerrojo.writeLock().lock();
+		try {
+			if (cargado) {
+				evento.cursos().forEach(this::escribir);
+			}
+		} finally {
+			cerrojo.writeLock().unlock();
+		}
+	}
+
+	@EventListener
+	public void alBorrar(CursoBorradoEvent evento) {
+		cerrojo.writeLock().lock();
+		try {
+			if (cargado) {
+				quitar(evento.codigo());
+			}
+		} finally {
+			cerrojo.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Carga el catálogo completo la primera vez. Mientras se carga no se aplican
+	 * eventos; los que llegan antes se ignoran porque sus escrituras ya están en la
+	 * base de datos y la carga las incluye.
+	 */
+	private void cargar() {
+		if (cargado) {
+			return;
+		}
+		cerrojo.writeLock().lock();
+		try {
+			if (!cargado) {
+				cursoRepository.findAll().forEach(this::escribir);
+				cargado = true;
+			}
+		} finally {
+			cerrojo.writeLock().unlock();
+		}
+	}
+
+	private void escribir(Curso curso) {
+		Integer fila = filaPorCodigo.get(curso.getCodigo());
+		if (fila == null) {
+			fila = numeroLibres > 0 ? libres[--numeroLibres] : nuevaFila();
+			filaPorCodigo.put(curso.getCodigo(), fila);
+		}
+		precios.put(fila, curso.getPrecio());
+		horas.put(fila, curso.getNumeroHoras());
+		idsNombre.put(fila, idNombre(curso.getNombre()));
+		vivos.put(fila, (byte) 1);
+	}
+
+	private void quitar(String codigo) {
+		Integer fila = filaPorCodigo.remove(codigo);
+		if (fila == null) {
+			return;
+		}
+		vivos.put(fila, (byte) 0);
+		if (numeroLibres == libres.length) {
+			libres = Arrays.copyOf(libres, libres.length * 2);
+		}
+		libres[numeroLibres++] = fila;
+	}
+
+	private int idNombre(String nombre) {
+		if (nombre == null) {
+			return SIN_NOMBRE;
+		}
+		return idPorNombre.computeIfAbsent(nombre, nuevo -> {
+			nombres.add(nuevo);
+			return nombres.size() - 1;
+		});
+	}
+
+	private int nuevaFila() {
+		if (filas == capacidad) {
+			if (capacidad == CAPACIDAD_MAXIMA) {
+				throw new IllegalStateException("El catálogo columnar no admite más de " + CAPACIDAD_MAXIMA + " cursos");
+			}
+			reservar((int) Math.min(2L * capacidad, CAPACIDAD_MAXIMA));
+		}
+		return filas++;
+	}
+
+	/**
+	 * Sustituye las columnas por otras de la capacidad indicada, copiando las filas
+	 * existentes.
+	 */
+	private void reservar(int nuevaCapacidad) {
+		IntBuffer nuevosPrecios = columna(nuevaCapacidad);
+		IntBuffer nuevasHoras = columna(nuevaCapacidad);
+		IntBuffer nuevosIdsNombre = columna(nuevaCapacidad);
+		ByteBuffer nuevosVivos = ByteBuffer.allocateDirect(nuevaCapacidad);
+		if (filas > 0) {
+			nuevosPrecios.put(0, precios, 0, filas);
+			nuevasHoras.put(0, horas, 0, filas);
+			nuevosIdsNombre.put(0, idsNombre, 0, filas);
+			nuevosVivos.put(0, vivos, 0, filas);
+		}
+		precios = nuevosPrecios;
+		horas = nuevasHoras;
+		idsNombre = nuevosIdsNombre;
+		vivos = nuevosVivos;
+		capacidad = nuevaCapacidad;
+	}
+
+	private static IntBuffer columna(int capacidad) {
+		return ByteBuffer.allocateDirect(capacidad * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+	}
+
+	private IntStream bloques() {
+		return IntStream.range(0, (filas + TAMANO_BLOQUE - 1) / TAMANO_BLOQUE).parallel();
+	}
+
+	private int finBloque(int bloque) {
+		return Math.min(filas, (bloque + 1) * TAMANO_BLOQUE);
+	}
+
+	private int[] extremosPrecio(int bloque) {
+		int minimo = Integer.MAX_VALUE;
+		int maximo = Integer.MIN_VALUE;
+		for (int i = bloque * TAMANO_BLOQUE, fin = finBloque(bloque); i < fin; i++) {
+			if (vivos.get(i) != 0) {
+				int precio = precios.get(i);
+				minimo = Math.min(minimo, precio);
+				maximo = Math.max(maximo, precio);
+			}
+		}
+		return new int[] { minimo, maximo };
+	}
+
+	private static int[] unirExtremos(int[] a, int[] b) {
+		return new int[] { Math.min(a[0], b[0]), Math.max(a[1], b[1]) };
+	}
+
+	private Acumulado acumularPorTramo(int bloque, long base, int anchoTramo, int numeroTramos) {
+		Acumulado acumulado = new Acumulado(numeroTramos);
+		for (int i = bloque * TAMANO_BLOQUE, fin = finBloque(bloque); i < fin; i++) {
+			if (vivos.get(i) != 0) {
+				int precio = precios.get(i);
+				int tramo = (int) ((precio - base) / anchoTramo);
+				acumulado.cursos[tramo]++;
+				acumulado.sumaPrecios[tramo] += precio;
+				acumulado.sumaHoras[tramo] += horas.get(i);
+			}
+		}
+		return acumulado;
+	}
+
+	private long contarHoras(int bloque, int minimo, int maximo) {
+		long cursos = 0;
+		for (int i = bloque * TAMANO_BLOQUE, fin = finBloque(bloque); i < fin; i++) {
+			int valor = horas.get(i);
+			if (vivos.get(i) != 0 && valor >= minimo && valor <= maximo) {
+				cursos++;
+			}
+		}
+		return cursos;
+	}
+
+	private long contarHorasConNombre(int bloque, int minimo, int maximo, int idNombre) {
+		long cursos = 0;
+		for (int i = bloque * TAMANO_BLOQUE, fin = finBloque(bloque); i < fin; i++) {
+			int valor = horas.get(i);
+			if (vivos.get(i) != 0 && idsNombre.get(i) == idNombre && valor >= minimo && valor <= maximo) {
+				cursos++;
+			}
+		}
+		return cursos;
+	}
+
+	/**
+	 * Sumas parciales por tramo de un bloque de filas.
+	 */
+	private static final class Acumulado {
+
+		private final long[] cursos;
+		private final long[] sumaPrecios;
+		private final long[] sumaHoras;
+
+		Acumulado(int numeroTramos) {
+			cursos = new long[numeroTramos];
+			sumaPrecios = new long[numeroTramos];
+			sumaHoras = new long[numeroTramos];
+		}
+
+		Acumulado sumar(Acumulado otro) {
+			for (int tramo = 0; tramo < cursos.length; tramo++) {
+				cursos[tramo] += otro.cursos[tramo];
+				sumaPrecios[tramo] += otro.sumaPrecios[tramo];
+				sumaHoras[tramo] += otro.sumaHoras[tramo];
+			}
+			return this;
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.viewnext.kidaprojects.cursosbdd.analitica;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+
+/**
+ * Lista de cursos organizada por columnas, con los nombres codificados en un
+ * diccionario.
+ *
+ * <p>
+ * Es el formato con el que el {@link CatalogoColumnar} exporta e instala su
+ * contenido. Las columnas de enteros pueden ser vistas de un fichero mapeado en
+ * memoria, de modo que instalar un catálogo no exige crear un {@code Curso} por
+ * fila.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @param codigos   El código de cada fila.
+ * @param nombres   El diccionario de nombres; cada nombre aparece una sola vez.
+ * @param precios   El precio de cada fila.
+ * @param horas     Las horas de cada fila.
+ * @param idsNombre La posición del nombre de cada fila en {@code nombres}, o -1 si no tiene nombre.
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public record ColumnasCursos(List<String> codigos, List<String> nombres, IntBuffer precios, IntBuffer horas,
+		IntBuffer idsNombre) {
+
+	public int tamano() {
+		return codigos.size();
+	}
+
+	public Curso curso(int fila) {
+		int idNombre = idsNombre.get(fila);
+		return new Curso(codigos.get(fila), idNombre < 0 ? null : nombres.get(idNombre), horas.get(fila),
+				precios.get(fila));
+	}
+
+	/**
+	 * Pasa una lista de cursos a columnas.
+	 *
+	 * @param cursos Los cursos, cada código una sola vez.
+	 * @return Las columnas, con las filas en el mismo orden que la lista.
+	 */
+	public static ColumnasCursos de(List<Curso> cursos) {
+		List<String> codigos = new ArrayList<>(cursos.size());
+		List<String> nombres = new ArrayList<>();
+		Map<String, Integer> idPorNombre = new HashMap<>();
+		IntBuffer precios = IntBuffer.allocate(cursos.size());
+		IntBuffer horas = IntBuffer.allocate(cursos.size());
+		IntBuffer idsNombre = IntBuffer.allocate(cursos.size());
+		for (int fila = 0; fila < cursos.size(); fila++) {
+			Curso curso = cursos.get(fila);
+			codigos.add(curso.getCodigo());
+			precios.put(fila, curso.getPrecio());
+			horas.put(fila, curso.getNumeroHoras());
+			idsNombre.put(fila, curso.getNombre() == null ? -1 : idPorNombre.computeIfAbsent(curso.getNombre(), nuevo -> {
+				nombres.add(nuevo);
+				return nombres.size() - 1;
+			}));
+		}
+		return new ColumnasCursos(codigos, nombres, precios, horas, idsNombre);
+	}
+}
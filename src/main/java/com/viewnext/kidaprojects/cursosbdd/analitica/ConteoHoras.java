@@ -0,0 +1,18 @@
+package com.viewnext.kidaprojects.cursosbdd.analitica;
+
+/**
+ * Número de cursos cuyas horas están en un rango.
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @param minimo El mínimo de horas, incluido.
+ * @param maximo El máximo de horas, incluido.
+ * @param nombre El nombre exacto de los cursos contados, o {@code null} si se cuentan todos.
+ * @param cursos El número de cursos.
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public record ConteoHoras(int minimo, int maximo, String nombre, long cursos) {
+}
@@ -0,0 +1,22 @@
+package com.viewnext.kidaprojects.cursosbdd.analitica;
+
+/**
+ * Agregados de los cursos cuyo precio cae en un tramo.
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @param desde       El precio mínimo del tramo, incluido.
+ * @param hasta       El precio máximo del tramo, incluido.
+ * @param cursos      El número de cursos del tramo.
+ * @param sumaPrecios La suma de los precios de los cursos del tramo.
+ * @param mediaPrecio El precio medio de los cursos del tramo.
+ * @param sumaHoras   La suma de las horas de los cursos del tramo.
+ * @param mediaHoras  La media de horas de los cursos del tramo.
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public record TramoPrecio(long desde, long hasta, long cursos, long sumaPrecios, double mediaPrecio, long sumaHoras,
+		double mediaHoras) {
+}
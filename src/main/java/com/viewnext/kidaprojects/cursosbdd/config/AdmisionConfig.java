@@ -0,0 +1,49 @@
+package com.viewnext.kidaprojects.cursosbdd.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.viewnext.kidaprojects.cursosbdd.admision.AdmisionProperties;
+import com.viewnext.kidaprojects.cursosbdd.admision.ControlAdmisionInterceptor;
+
+/**
+ * Configuración del control de admisión de la API.
+ *
+ * <p>
+ * La clase {@code AdmisionConfig} registra el {@link ControlAdmisionInterceptor}
+ * delante de los endpoints de {@code CursoRestController}. Se puede desactivar con
+ * la propiedad {@code cursos.admision.habilitada=false}.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@Configuration
+@EnableConfigurationProperties(AdmisionProperties.class)
+@ConditionalOnProperty(prefix = "cursos.admision", name = "habilitada", havingValue = "true", matchIfMissing = true)
+public class AdmisionConfig implements WebMvcConfigurer {
+
+	private final AdmisionProperties admisionProperties;
+
+	public AdmisionConfig(AdmisionProperties admisionProperties) {
+		this.admisionProperties = admisionProperties;
+	}
+
+	@Bean
+	public ControlAdmisionInterceptor controlAdmisionInterceptor() {
+		return new ControlAdmisionInterceptor(admisionProperties);
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(controlAdmisionInterceptor()).addPathPatterns("/curso/**", "/cursos/**");
+	}
+}
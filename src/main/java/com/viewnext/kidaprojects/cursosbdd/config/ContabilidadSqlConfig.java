@@ -0,0 +1,58 @@
+package com.viewnext.kidaprojects.cursosbdd.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.viewnext.kidaprojects.cursosbdd.sql.ContabilidadSqlFilter;
+import com.viewnext.kidaprojects.cursosbdd.sql.ContabilidadSqlProperties;
+import com.viewnext.kidaprojects.cursosbdd.sql.DataSourceContableBeanPostProcessor;
+import com.viewnext.kidaprojects.cursosbdd.sql.InstrumentadorSql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuración de la contabilidad de sentencias SQL por petición.
+ *
+ * <p>
+ * La clase {@code ContabilidadSqlConfig} instrumenta los {@code DataSource} del
+ * contexto y registra el {@link ContabilidadSqlFilter} delante de los endpoints
+ * de {@code CursoRestController}. Se puede desactivar con la propiedad
+ * {@code cursos.sql.habilitada=false}.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@Configuration
+@EnableConfigurationProperties(ContabilidadSqlProperties.class)
+@ConditionalOnProperty(prefix = "cursos.sql", name = "habilitada", havingValue = "true", matchIfMissing = true)
+public class ContabilidadSqlConfig {
+
+	@Bean
+	public InstrumentadorSql instrumentadorSql(ContabilidadSqlProperties propiedades) {
+		return new InstrumentadorSql(propiedades.getUmbralLento());
+	}
+
+	@Bean
+	public static DataSourceContableBeanPostProcessor dataSourceContableBeanPostProcessor(
+			ObjectProvider<InstrumentadorSql> instrumentadorSql) {
+		return new DataSourceContableBeanPostProcessor(instrumentadorSql);
+	}
+
+	@Bean
+	public FilterRegistrationBean<ContabilidadSqlFilter> contabilidadSqlFilter(ContabilidadSqlProperties propiedades,
+			MeterRegistry meterRegistry) {
+		FilterRegistrationBean<ContabilidadSqlFilter> registro = new FilterRegistrationBean<>(
+				new ContabilidadSqlFilter(propiedades, meterRegistry));
+		registro.addUrlPatterns("/curso/*", "/cursos/*");
+		return registro;
+	}
+}
@@ -0,0 +1,37 @@
+package com.viewnext.kidaprojects.cursosbdd.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viewnext.kidaprojects.cursosbdd.importacion.ImportacionProperties;
+import com.viewnext.kidaprojects.cursosbdd.importacion.ImportadorCursos;
+import com.viewnext.kidaprojects.cursosbdd.service.CursoService;
+
+/**
+ * Configuración de la importación masiva de cursos.
+ *
+ * <p>
+ * La clase {@code ImportacionConfig} crea el {@link ImportadorCursos} con los
+ * límites de {@code cursos.importacion.*} y detiene sus hilos al cerrar la
+ * aplicación.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@Configuration
+@EnableConfigurationProperties(ImportacionProperties.class)
+public class ImportacionConfig {
+
+	@Bean(destroyMethod = "cerrar")
+	public ImportadorCursos importadorCursos(CursoService cursoService, ObjectMapper objectMapper,
+			ImportacionProperties importacionProperties) {
+		return new ImportadorCursos(cursoService, objectMapper, importacionProperties);
+	}
+}
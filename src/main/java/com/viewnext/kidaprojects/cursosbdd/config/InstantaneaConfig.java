@@ -0,0 +1,45 @@
+package com.viewnext.kidaprojects.cursosbdd.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.viewnext.kidaprojects.cursosbdd.analitica.CatalogoColumnar;
+import com.viewnext.kidaprojects.cursosbdd.instantanea.InstantaneaProperties;
+import com.viewnext.kidaprojects.cursosbdd.instantanea.SincronizadorInstantanea;
+import com.viewnext.kidaprojects.cursosbdd.repository.CursoRepository;
+import com.viewnext.kidaprojects.cursosbdd.service.TopCursosEnMemoria;
+
+/**
+ * Configuración de la instantánea en disco del catálogo.
+ *
+ * <p>
+ * La clase {@code InstantaneaConfig} crea el {@link SincronizadorInstantanea},
+ * que al arrancar instala la última instantánea en las estructuras en memoria que
+ * estén activas y la mantiene al día. Se activa con la propiedad
+ * {@code cursos.instantanea.habilitada=true}.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@Configuration
+@EnableConfigurationProperties(InstantaneaProperties.class)
+@ConditionalOnProperty(prefix = "cursos.instantanea", name = "habilitada", havingValue = "true")
+public class InstantaneaConfig {
+
+	@Bean(destroyMethod = "cerrar")
+	public SincronizadorInstantanea sincronizadorInstantanea(CursoRepository cursoRepository,
+			ApplicationEventPublisher eventPublisher, InstantaneaProperties instantaneaProperties,
+			ObjectProvider<CatalogoColumnar> catalogoColumnar, ObjectProvider<TopCursosEnMemoria> topCursosEnMemoria) {
+		return new SincronizadorInstantanea(cursoRepository, eventPublisher, instantaneaProperties,
+				catalogoColumnar.getIfAvailable(), topCursosEnMemoria.getIfAvailable());
+	}
+}
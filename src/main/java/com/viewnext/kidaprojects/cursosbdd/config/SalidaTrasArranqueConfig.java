@@ -0,0 +1,43 @@
+package com.viewnext.kidaprojects.cursosbdd.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración que detiene la aplicación en cuanto termina de arrancar.
+ *
+ * <p>
+ * La clase {@code SalidaTrasArranqueConfig} solo actúa con la propiedad
+ * {@code cursos.arranque.salir-tras-iniciar=true}. Se usa en la ejecución de
+ * entrenamiento que genera el archivo de Class Data Sharing
+ * ({@code -XX:ArchiveClassesAtExit}): la JVM carga todas las clases necesarias
+ * para arrancar y sale de forma ordenada para volcar el archivo.
+ * </p>
+ *
+ * <p>
+ * La propiedad se consulta en tiempo de ejecución y no con una condición sobre el
+ * bean, porque con el procesamiento AOT las condiciones se evalúan al compilar.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@Configuration
+public class SalidaTrasArranqueConfig implements ApplicationListener<ApplicationReadyEvent> {
+
+	@Override
+	public void onApplicationEvent(ApplicationReadyEvent event) {
+		ApplicationContext contexto = event.getApplicationContext();
+		if (!contexto.getEnvironment().getProperty("cursos.arranque.salir-tras-iniciar", Boolean.class, false)) {
+			return;
+		}
+		System.exit(SpringApplication.exit(contexto));
+	}
+}
@@ -0,0 +1,113 @@
+package com.viewnext.kidaprojects.cursosbdd.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.viewnext.kidaprojects.cursosbdd.sharding.CursoRepositoryFragmentado;
+import com.viewnext.kidaprojects.cursosbdd.sharding.ShardingProperties;
+import com.viewnext.kidaprojects.cursosbdd.sql.InstrumentadorSql;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Configuración del almacenamiento fragmentado de cursos.
+ *
+ * <p>
+ * La clase {@code ShardingConfig} crea un pool de conexiones por cada fragmento
+ * declarado en {@code cursos.sharding.fuentes} y registra un
+ * {@link CursoRepositoryFragmentado} como repositorio principal, de modo que el
+ * servicio y el resto de componentes lo reciben en lugar del repositorio JPA. Se
+ * activa con la propiedad {@code cursos.sharding.habilitado=true}.
+ * </p>
+ *
+ * <p>
+ * Antes de usar cada fragmento se le aplican las mismas migraciones de Flyway que
+ * a la base de datos principal, así que todos comparten esquema e índices. Si la
+ * contabilidad de sentencias SQL está activa, sus conexiones también se miden.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+@ConditionalOnProperty(prefix = "cursos.sharding", name = "habilitado", havingValue = "true")
+public class ShardingConfig implements DisposableBean {
+
+	private final ShardingProperties shardingProperties;
+	private final ObjectProvider<InstrumentadorSql> instrumentadorSql;
+	private final List<HikariDataSource> fuentes = new ArrayList<>();
+	private ExecutorService ejecutor;
+
+	public ShardingConfig(ShardingProperties shardingProperties, ObjectProvider<InstrumentadorSql> instrumentadorSql) {
+		this.shardingProperties = shardingProperties;
+		this.instrumentadorSql = instrumentadorSql;
+	}
+
+	@Bean
+	@Primary
+	public CursoRepositoryFragmentado cursoRepositoryFragmentado() {
+		if (shardingProperties.getFuentes().isEmpty()) {
+			throw new IllegalStateException("cursos.sharding.fuentes no puede estar vacío con el sharding habilitado");
+		}
+
+		List<DataSource> dataSources = new ArrayList<>();
+		for (int i = 0; i < shardingProperties.getFuentes().size(); i++) {
+			ShardingProperties.Fuente fuente = shardingProperties.getFuentes().get(i);
+			HikariDataSource dataSource = DataSourceBuilder.create()
+					.type(HikariDataSource.class)
+					.url(fuente.getUrl())
+					.username(fuente.getUsername())
+					.password(fuente.getPassword())
+					.build();
+			dataSource.setPoolName("fragmento-" + i);
+			dataSource.setMaximumPoolSize(fuente.getMaximoConexiones());
+			fuentes.add(dataSource);
+			InstrumentadorSql instrumentador = instrumentadorSql.getIfAvailable();
+			dataSources.add(instrumentador != null ? instrumentador.envolver(dataSource) : dataSource);
+
+			Flyway.configure()
+					.dataSource(dataSource)
+					.baselineOnMigrate(true)
+					.baselineVersion("0")
+					.load()
+					.migrate();
+		}
+
+		AtomicInteger contador = new AtomicInteger();
+		ThreadFactory hilos = tarea -> {
+			Thread hilo = new Thread(tarea, "fragmentos-" + contador.incrementAndGet());
+			hilo.setDaemon(true);
+			return hilo;
+		};
+		ejecutor = Executors.newFixedThreadPool(shardingProperties.getHilos(), hilos);
+		return new CursoRepositoryFragmentado(dataSources, ejecutor);
+	}
+
+	@Override
+	public void destroy() {
+		if (ejecutor != null) {
+			ejecutor.shutdown();
+		}
+		fuentes.forEach(HikariDataSource::close);
+	}
+}
@@ -0,0 +1,16 @@
+package com.viewnext.kidaprojects.cursosbdd.event;
+
+/**
+ * Evento publicado por el servicio de cursos después de borrar un curso de la
+ * base de datos.
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @param codigo El código del curso borrado.
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public record CursoBorradoEvent(String codigo) {
+}
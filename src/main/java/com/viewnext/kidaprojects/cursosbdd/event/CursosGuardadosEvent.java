@@ -0,0 +1,27 @@
+package com.viewnext.kidaprojects.cursosbdd.event;
+
+import java.util.List;
+
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+
+/**
+ * Evento publicado por el servicio de cursos después de guardar uno o varios
+ * cursos en la base de datos.
+ *
+ * <p>
+ * El evento {@code CursosGuardadosEvent} se publica tanto en las altas como en las
+ * actualizaciones, una vez que los cursos ya están guardados. Lo utilizan las
+ * estructuras en memoria derivadas del catálogo para mantenerse al día sin volver
+ * a leer la tabla completa.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @param cursos Los cursos guardados, con los valores que tienen en la base de datos.
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public record CursosGuardadosEvent(List<Curso> cursos) {
+}
@@ -0,0 +1,41 @@
+package com.viewnext.kidaprojects.cursosbdd.importacion;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Foto del progreso de un trabajo de importación, tal y como se devuelve en la API.
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @param id              El identificador del trabajo.
+ * @param estado          El estado del trabajo.
+ * @param formato         El formato del fichero importado.
+ * @param filasLeidas     Las filas leídas del fichero hasta el momento.
+ * @param filasImportadas Las filas guardadas en la base de datos.
+ * @param filasConError   Las filas descartadas por no ser válidas o no poder guardarse.
+ * @param lotesEscritos   Los lotes enviados a la base de datos.
+ * @param segundos        El tiempo transcurrido desde que empezó el trabajo.
+ * @param filasPorSegundo El ritmo medio de filas importadas.
+ * @param inicio          El momento en que empezó el trabajo, o {@code null} si está en cola.
+ * @param fin             El momento en que terminó el trabajo, o {@code null} si no ha terminado.
+ * @param mensaje         El motivo del fallo, si lo hay.
+ * @param errores         Las primeras filas con error, con su número de línea.
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public record EstadoImportacion(String id, EstadoTrabajo estado, FormatoImportacion formato, long filasLeidas,
+		long filasImportadas, long filasConError, long lotesEscritos, double segundos, double filasPorSegundo,
+		Instant inicio, Instant fin, String mensaje, List<ErrorFila> errores) {
+
+	/**
+	 * Fila del fichero que no se ha podido importar.
+	 *
+	 * @param linea   El número de línea en el fichero, empezando en 1.
+	 * @param mensaje El motivo por el que no se ha importado.
+	 */
+	public record ErrorFila(long linea, String mensaje) {
+	}
+}
@@ -0,0 +1,29 @@
+package com.viewnext.kidaprojects.cursosbdd.importacion;
+
+/**
+ * Estados por los que pasa un trabajo de importación.
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public enum EstadoTrabajo {
+
+	EN_COLA,
+	EN_CURSO,
+	COMPLETADO,
+	CANCELADO,
+	FALLIDO;
+
+	/**
+	 * Indica si el trabajo ya ha terminado, con o sin éxito.
+	 *
+	 * @return {@code true} si el estado es final.
+	 */
+	public boolean isTerminado() {
+		return this == COMPLETADO || this == CANCELADO || this == FALLIDO;
+	}
+}
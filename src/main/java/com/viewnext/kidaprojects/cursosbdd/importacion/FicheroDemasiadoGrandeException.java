@@ -0,0 +1,27 @@
+package com.viewnext.kidaprojects.cursosbdd.importacion;
+
+import java.io.IOException;
+
+/**
+ * Excepción que indica que un fichero de importación supera el tamaño máximo.
+ *
+ * <p>
+ * La lanza {@link ImportadorCursos} en cuanto el contenido recibido pasa de
+ * {@code cursos.importacion.tamano-maximo}, sin terminar de leerlo.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class FicheroDemasiadoGrandeException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	public FicheroDemasiadoGrandeException(long tamanoMaximo) {
+		super("El fichero supera el tamaño máximo de " + tamanoMaximo + " bytes");
+	}
+}
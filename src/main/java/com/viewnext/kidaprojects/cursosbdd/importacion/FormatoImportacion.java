@@ -0,0 +1,53 @@
+package com.viewnext.kidaprojects.cursosbdd.importacion;
+
+import java.util.Optional;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos de fichero admitidos por la importación masiva de cursos.
+ *
+ * <p>
+ * En CSV cada línea es un curso con los campos {@code codigo}, {@code nombre},
+ * {@code numeroHoras} y {@code precio}, en ese orden o en el que indique una
+ * cabecera opcional. En NDJSON cada línea es un objeto JSON con la misma forma
+ * que el cuerpo de {@code POST /curso}.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public enum FormatoImportacion {
+
+	CSV("text/csv"),
+	NDJSON("application/x-ndjson");
+
+	private final String tipoContenido;
+
+	FormatoImportacion(String tipoContenido) {
+		this.tipoContenido = tipoContenido;
+	}
+
+	/**
+	 * Busca el formato que corresponde a un tipo de contenido HTTP.
+	 *
+	 * @param tipo El tipo de contenido de la petición.
+	 * @return El formato correspondiente, o vacío si no se admite.
+	 */
+	public static Optional<FormatoImportacion> porTipoContenido(MediaType tipo) {
+		for (FormatoImportacion formato : values()) {
+			if (MediaType.parseMediaType(formato.tipoContenido).includes(tipo)) {
+				return Optional.of(formato);
+			}
+		}
+		return Optional.empty();
+	}
+
+	public String getTipoContenido() {
+		return tipoContenido;
+	}
+}
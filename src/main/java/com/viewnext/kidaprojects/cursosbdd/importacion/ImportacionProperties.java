@@ -0,0 +1,133 @@
+package com.viewnext.kidaprojects.cursosbdd.importacion;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Propiedades de configuración de la importación masiva de cursos.
+ *
+ * <p>
+ * La clase {@code ImportacionProperties} agrupa las propiedades con prefijo
+ * {@code cursos.importacion}, que acotan los hilos, el tamaño de los lotes, la
+ * memoria y el disco que pueden ocupar los trabajos de importación.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@ConfigurationProperties(prefix = "cursos.importacion")
+public class ImportacionProperties {
+
+	/**
+	 * Tamaño máximo del fichero recibido, que se copia entero a un temporal antes de
+	 * importarlo. Los ficheros mayores se rechazan con 413.
+	 */
+	private DataSize tamanoMaximo = DataSize.ofMegabytes(100);
+
+	/**
+	 * Hilos que escriben lotes en la base de datos, compartidos por todos los trabajos.
+	 */
+	private int hilos = 4;
+
+	/**
+	 * Trabajos que se leen a la vez; el resto espera en cola.
+	 */
+	private int trabajosSimultaneos = 2;
+
+	/**
+	 * Cursos que se guardan en cada lote.
+	 */
+	private int tamanoLote = 500;
+
+	/**
+	 * Lotes de un mismo trabajo leídos y pendientes de escribir. Cuando se alcanza,
+	 * la lectura espera a que se escriba alguno.
+	 */
+	private int lotesEnVuelo = 8;
+
+	/**
+	 * Filas con error que se guardan con su mensaje en el estado del trabajo.
+	 */
+	private int maxErrores = 100;
+
+	/**
+	 * Trabajos terminados que se conservan para poder consultar su estado.
+	 */
+	private int trabajosRetenidos = 100;
+
+	/**
+	 * Tiempo que se espera al cerrar la aplicación a que terminen los lotes que se
+	 * están escribiendo. Pasado el plazo, los trabajos pendientes se interrumpen.
+	 */
+	private Duration plazoCierre = Duration.ofSeconds(30);
+
+	public DataSize getTamanoMaximo() {
+		return tamanoMaximo;
+	}
+
+	public void setTamanoMaximo(DataSize tamanoMaximo) {
+		this.tamanoMaximo = tamanoMaximo;
+	}
+
+	public int getHilos() {
+		return hilos;
+	}
+
+	public void setHilos(int hilos) {
+		this.hilos = hilos;
+	}
+
+	public int getTrabajosSimultaneos() {
+		return trabajosSimultaneos;
+	}
+
+	public void setTrabajosSimultaneos(int trabajosSimultaneos) {
+		this.trabajosSimultaneos = trabajosSimultaneos;
+	}
+
+	public int getTamanoLote() {
+		return tamanoLote;
+	}
+
+	public void setTamanoLote(int tamanoLote) {
+		this.tamanoLote = tamanoLote;
+	}
+
+	public int getLotesEnVuelo() {
+		return lotesEnVuelo;
+	}
+
+	public void setLotesEnVuelo(int lotesEnVuelo) {
+		this.lotesEnVuelo = lotesEnVuelo;
+	}
+
+	public int getMaxErrores() {
+		return maxErrores;
+	}
+
+	public void setMaxErrores(int maxErrores) {
+		this.maxErrores = maxErrores;
+	}
+
+	public int getTrabajosRetenidos() {
+		return trabajosRetenidos;
+	}
+
+	public void setTrabajosRetenidos(int trabajosRetenidos) {
+		this.trabajosRetenidos = trabajosRetenidos;
+	}
+
+	public Duration getPlazoCierre() {
+		return plazoCierre;
+	}
+
+	public void setPlazoCierre(Duration plazoCierre) {
+		this.plazoCierre = plazoCierre;
+	}
+}
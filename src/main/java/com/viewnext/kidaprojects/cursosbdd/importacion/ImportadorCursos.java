@@ -0,0 +1,311 @@
+package com.viewnext.kidaprojects.cursosbdd.importacion;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viewnext.kidaprojects.cursosbdd.importacion.LectorCursos.Fila;
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+import com.viewnext.kidaprojects.cursosbdd.service.CursoService;
+
+/**
+ * Importación masiva y asíncrona de cursos desde ficheros CSV o NDJSON.
+ *
+ * <p>
+ * La clase {@code ImportadorCursos} guarda el fichero recibido en un temporal y
+ * devuelve enseguida un {@link TrabajoImportacion}. Un hilo coordinador lee el
+ * fichero línea a línea y lo reparte en lotes que escriben en paralelo los hilos
+ * de un pool acotado compartido por todos los trabajos. Cada trabajo puede tener
+ * como mucho {@code lotes-en-vuelo} lotes leídos y sin escribir, de modo que la
+ * memoria no depende del tamaño del fichero.
+ * </p>
+ *
+ * <p>
+ * Los lotes se guardan con {@link CursoService#crearVariosCursos(List)}, así que
+ * se publican los mismos eventos que en las altas por la API. Si un lote falla se
+ * reintenta curso a curso para quedarse solo con las filas que no se pueden
+ * guardar. Las filas con un mismo código en lotes distintos se escriben en
+ * paralelo, por lo que no se garantiza cuál de ellas queda guardada.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class ImportadorCursos {
+
+	private static final Logger log = LoggerFactory.getLogger(ImportadorCursos.class);
+	private static final int LONGITUD_MAXIMA_MENSAJE = 300;
+	private static final String CERRANDO = "El importador se está cerrando";
+
+	private final CursoService cursoService;
+	private final ObjectMapper objectMapper;
+	private final ImportacionProperties propiedades;
+
+	private final ExecutorService coordinadores;
+	private final ExecutorService escritores;
+	private final Map<String, TrabajoImportacion> trabajos = new ConcurrentHashMap<>();
+	private final ConcurrentLinkedQueue<String> ordenLlegada = new ConcurrentLinkedQueue<>();
+	private volatile boolean cerrando;
+
+	public ImportadorCursos(CursoService cursoService, ObjectMapper objectMapper, ImportacionProperties propiedades) {
+		this.cursoService = cursoService;
+		this.objectMapper = objectMapper;
+		this.propiedades = propiedades;
+		this.coordinadores = Executors.newFixedThreadPool(propiedades.getTrabajosSimultaneos(),
+				hilos("importacion-lector-"));
+		this.escritores = Executors.newFixedThreadPool(propiedades.getHilos(), hilos("importacion-escritor-"));
+	}
+
+	/**
+	 * Guarda el contenido recibido en un fichero temporal y pone en cola su importación.
+	 *
+	 * @param datos   El contenido del fichero.
+	 * @param formato El formato del fichero.
+	 * @return El trabajo creado, en estado {@link EstadoTrabajo#EN_COLA}.
+	 * @throws FicheroDemasiadoGrandeException Si el contenido supera el tamaño
+	 *                                         máximo; se deja de leer al superarlo.
+	 * @throws IOException                     Si no se puede guardar el fichero temporal.
+	 */
+	public TrabajoImportacion importar(InputStream datos, FormatoImportacion formato) throws IOException {
+		long tamanoMaximo = propiedades.getTamanoMaximo().toBytes();
+		Path fichero = Files.createTempFile("cursos-importacion-", "." + formato.name().toLowerCase());
+		try (OutputStream salida = Files.newOutputStream(fichero)) {
+			byte[] bufer = new byte[8192];
+			long copiados = 0;
+			int leidos;
+			while ((leidos = datos.read(bufer)) != -1) {
+				copiados += leidos;
+				if (copiados > tamanoMaximo) {
+					throw new FicheroDemasiadoGrandeException(tamanoMaximo);
+				}
+				salida.write(bufer, 0, leidos);
+			}
+		} catch (IOException e) {
+			Files.deleteIfExists(fichero);
+			throw e;
+		}
+
+		TrabajoImportacion trabajo = new TrabajoImportacion(UUID.randomUUID().toString(), formato, fichero,
+				propiedades.getMaxErrores());
+		trabajos.put(trabajo.getId(), trabajo);
+		ordenLlegada.add(trabajo.getId());
+		purgarTerminados();
+
+		try {
+			coordinadores.execute(() -> procesar(trabajo));
+		} catch (RejectedExecutionException e) {
+			trabajo.terminar(EstadoTrabajo.FALLIDO, CERRANDO);
+			Files.deleteIfExists(fichero);
+		}
+		return trabajo;
+	}
+
+	/**
+	 * Busca un trabajo de importación por su identificador.
+	 *
+	 * @param id El identificador del trabajo.
+	 * @return El trabajo, o vacío si no existe o ya se ha descartado.
+	 */
+	public Optional<TrabajoImportacion> buscar(String id) {
+		return Optional.ofNullable(trabajos.get(id));
+	}
+
+	/**
+	 * Detiene el importador. Los trabajos dejan de leer y terminan como fallidos en
+	 * cuanto se escriben los lotes que ya estaban en curso; los lotes que aún
+	 * esperaban hilo se descartan. Si los lotes en curso no terminan dentro del
+	 * plazo de cierre, los trabajos se interrumpen.
+	 */
+	public void cerrar() {
+		cerrando = true;
+		coordinadores.shutdown();
+		escritores.shutdown();
+		long limite = System.nanoTime() + propiedades.getPlazoCierre().toNanos();
+		try {
+			if (!coordinadores.awaitTermination(limite - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+				log.warn("Los trabajos de importación no han terminado en {}; se interrumpen",
+						propiedades.getPlazoCierre());
+				coordinadores.shutdownNow();
+				coordinadores.awaitTermination(1, TimeUnit.SECONDS);
+			}
+			if (!escritores.awaitTermination(limite - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+				escritores.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			coordinadores.shutdownNow();
+			escritores.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void procesar(TrabajoImportacion trabajo) {
+		if (trabajo.isCancelado() || cerrando) {
+			trabajo.terminar(trabajo.isCancelado() ? EstadoTrabajo.CANCELADO : EstadoTrabajo.FALLIDO,
+					trabajo.isCancelado() ? null : CERRANDO);
+			borrarFichero(trabajo);
+			return;
+		}
+
+		trabajo.empezar();
+		Semaphore lotesEnVuelo = new Semaphore(propiedades.getLotesEnVuelo());
+		EstadoTrabajo estadoFinal = EstadoTrabajo.COMPLETADO;
+		String motivo = null;
+
+		try (LectorCursos lector = new LectorCursos(Files.newBufferedReader(trabajo.getFichero(),
+				StandardCharsets.UTF_8), trabajo.getFormato(), objectMapper)) {
+			List<Fila> lote = new ArrayList<>(propiedades.getTamanoLote());
+			Fila fila;
+			while (!trabajo.isCancelado() && !cerrando && (fila = lector.siguiente()) != null) {
+				trabajo.registrarLeida();
+				if (fila.error() != null) {
+					trabajo.registrarError(fila.linea(), fila.error());
+					continue;
+				}
+				lote.add(fila);
+				if (lote.size() == propiedades.getTamanoLote()) {
+					enviar(trabajo, lote, lotesEnVuelo);
+					lote = new ArrayList<>(propiedades.getTamanoLote());
+				}
+			}
+			if (cerrando) {
+				estadoFinal = EstadoTrabajo.FALLIDO;
+				motivo = CERRANDO;
+			} else if (!lote.isEmpty() && !trabajo.isCancelado()) {
+				enviar(trabajo, lote, lotesEnVuelo);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			estadoFinal = EstadoTrabajo.FALLIDO;
+			motivo = "Importación interrumpida";
+		} catch (RejectedExecutionException e) {
+			estadoFinal = EstadoTrabajo.FALLIDO;
+			motivo = CERRANDO;
+		} catch (IOException | RuntimeException e) {
+			log.warn("Falla la importación {}", trabajo.getId(), e);
+			estadoFinal = EstadoTrabajo.FALLIDO;
+			motivo = mensaje(e);
+		}
+
+		// Espera a que terminen los lotes que ya se han repartido, salvo que el cierre interrumpa la espera.
+		try {
+			lotesEnVuelo.acquire(propiedades.getLotesEnVuelo());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			estadoFinal = EstadoTrabajo.FALLIDO;
+			motivo = "Importación interrumpida";
+		}
+		if (estadoFinal == EstadoTrabajo.COMPLETADO && trabajo.isCancelado()) {
+			estadoFinal = EstadoTrabajo.CANCELADO;
+		}
+		trabajo.terminar(estadoFinal, motivo);
+		borrarFichero(trabajo);
+	}
+
+	private void enviar(TrabajoImportacion trabajo, List<Fila> lote, Semaphore lotesEnVuelo)
+			throws InterruptedException {
+		lotesEnVuelo.acquire();
+		try {
+			escritores.execute(() -> {
+				try {
+					escribir(trabajo, lote);
+				} finally {
+					lotesEnVuelo.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			lotesEnVuelo.release();
+			throw e;
+		}
+	}
+
+	private void escribir(TrabajoImportacion trabajo, List<Fila> lote) {
+		if (trabajo.isCancelado() || cerrando) {
+			return;
+		}
+		List<Curso> cursos = lote.stream().map(Fila::curso).toList();
+		try {
+			cursoService.crearVariosCursos(cursos);
+			trabajo.registrarImportadas(cursos.size());
+		} catch (RuntimeException e) {
+			for (Fila fila : lote) {
+				try {
+					cursoService.crearCurso(fila.curso());
+					trabajo.registrarImportadas(1);
+				} catch (RuntimeException errorFila) {
+					trabajo.registrarError(fila.linea(), mensaje(errorFila));
+				}
+			}
+		}
+		trabajo.registrarLote();
+	}
+
+	/**
+	 * Descarta los trabajos terminados más antiguos por encima de los que se
+	 * conservan. Los trabajos en cola o en curso no se descartan nunca.
+	 */
+	private void purgarTerminados() {
+		int sobrantes = trabajos.size() - propiedades.getTrabajosRetenidos();
+		Iterator<String> ids = ordenLlegada.iterator();
+		while (sobrantes > 0 && ids.hasNext()) {
+			String id = ids.next();
+			TrabajoImportacion trabajo = trabajos.get(id);
+			if (trabajo == null || trabajo.isTerminado()) {
+				ids.remove();
+				if (trabajo != null) {
+					trabajos.remove(id);
+					sobrantes--;
+				}
+			}
+		}
+	}
+
+	private void borrarFichero(TrabajoImportacion trabajo) {
+		try {
+			Files.deleteIfExists(trabajo.getFichero());
+		} catch (IOException e) {
+			log.warn("No se puede borrar el fichero temporal {}", trabajo.getFichero(), e);
+		}
+	}
+
+	private static String mensaje(Exception e) {
+		Throwable causa = NestedExceptionUtils.getMostSpecificCause(e);
+		String mensaje = causa.getMessage() != null ? causa.getMessage() : causa.getClass().getSimpleName();
+		return mensaje.length() > LONGITUD_MAXIMA_MENSAJE ? mensaje.substring(0, LONGITUD_MAXIMA_MENSAJE) : mensaje;
+	}
+
+	private static ThreadFactory hilos(String prefijo) {
+		AtomicInteger contador = new AtomicInteger();
+		return tarea -> {
+			Thread hilo = new Thread(tarea, prefijo + contador.incrementAndGet());
+			hilo.setDaemon(true);
+			return hilo;
+		};
+	}
+}
@@ -0,0 +1,222 @@
+package com.viewnext.kidaprojects.cursosbdd.importacion;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+
+/**
+ * Lee cursos de un fichero CSV o NDJSON línea a línea.
+ *
+ * <p>
+ * La clase {@code LectorCursos} no carga el fichero en memoria: cada llamada a
+ * {@link #siguiente()} lee solo la línea necesaria. Las líneas que no se pueden
+ * interpretar o que no forman un curso válido no detienen la lectura; se
+ * devuelven como una {@link Fila} con su mensaje de error.
+ * </p>
+ *
+ * <p>
+ * En CSV la primera línea se toma como cabecera si su primer campo es
+ * {@code codigo}; la cabecera puede traer las columnas en cualquier orden. Se
+ * admite como separador la coma o el punto y coma, y los campos entre comillas
+ * dobles pueden contener el separador.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class LectorCursos implements Closeable {
+
+	private static final int LONGITUD_MAXIMA = 255;
+	private static final List<String> COLUMNAS = List.of("codigo", "nombre", "numerohoras", "precio");
+
+	private final BufferedReader lector;
+	private final FormatoImportacion formato;
+	private final ObjectMapper objectMapper;
+
+	private long linea;
+	private boolean primeraLinea = true;
+	private char separador = ',';
+	private int[] posiciones = { 0, 1, 2, 3 };
+
+	/**
+	 * Una línea leída del fichero: un curso válido o un mensaje de error.
+	 *
+	 * @param linea   El número de línea en el fichero, empezando en 1.
+	 * @param curso   El curso leído, o {@code null} si la línea no es válida.
+	 * @param error   El motivo por el que la línea no es válida, o {@code null}.
+	 */
+	public record Fila(long linea, Curso curso, String error) {
+	}
+
+	public LectorCursos(BufferedReader lector, FormatoImportacion formato, ObjectMapper objectMapper) {
+		this.lector = lector;
+		this.formato = formato;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Lee la siguiente fila del fichero, saltando líneas en blanco y la cabecera.
+	 *
+	 * @return La fila leída, o {@code null} si se ha llegado al final del fichero.
+	 * @throws IOException              Si falla la lectura del fichero.
+	 * @throws IllegalArgumentException Si la cabecera CSV no trae todas las columnas.
+	 */
+	public Fila siguiente() throws IOException {
+		String texto;
+		while ((texto = lector.readLine()) != null) {
+			linea++;
+			if (primeraLinea) {
+				primeraLinea = false;
+				texto = texto.startsWith("\uFEFF") ? texto.substring(1) : texto;
+				if (formato == FormatoImportacion.CSV && leerCabecera(texto)) {
+					continue;
+				}
+			}
+			if (texto.isBlank()) {
+				continue;
+			}
+			try {
+				Curso curso = formato == FormatoImportacion.CSV ? leerCsv(texto) : leerNdjson(texto);
+				validar(curso);
+				return new Fila(linea, curso, null);
+			} catch (IllegalArgumentException e) {
+				return new Fila(linea, null, e.getMessage());
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void close() throws IOException {
+		lector.close();
+	}
+
+	/**
+	 * Detecta el separador y, si la línea es una cabecera, el orden de las columnas.
+	 *
+	 * @return {@code true} si la línea es una cabecera y no contiene datos.
+	 */
+	private boolean leerCabecera(String texto) {
+		if (texto.indexOf(';') >= 0 && texto.indexOf(',') < 0) {
+			separador = ';';
+		}
+		List<String> campos;
+		try {
+			campos = campos(texto);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+		if (!"codigo".equals(normalizar(campos.get(0)))) {
+			return false;
+		}
+
+		posiciones = new int[] { -1, -1, -1, -1 };
+		for (int i = 0; i < campos.size(); i++) {
+			int columna = COLUMNAS.indexOf(normalizar(campos.get(i)));
+			if (columna >= 0) {
+				posiciones[columna] = i;
+			}
+		}
+		for (int i = 0; i < posiciones.length; i++) {
+			if (posiciones[i] < 0) {
+				throw new IllegalArgumentException("Falta la columna " + COLUMNAS.get(i) + " en la cabecera");
+			}
+		}
+		return true;
+	}
+
+	private static String normalizar(String columna) {
+		return columna.replace("_", "").toLowerCase(Locale.ROOT);
+	}
+
+	private Curso leerCsv(String texto) {
+		List<String> campos = campos(texto);
+		for (int posicion : posiciones) {
+			if (posicion >= campos.size()) {
+				throw new IllegalArgumentException("Faltan campos: se esperaban al menos " + (posicion + 1)
+						+ " y hay " + campos.size());
+			}
+		}
+		return new Curso(campos.get(posiciones[0]), campos.get(posiciones[1]),
+				entero(campos.get(posiciones[2]), "numeroHoras"), entero(campos.get(posiciones[3]), "precio"));
+	}
+
+	private Curso leerNdjson(String texto) {
+		try {
+			Curso curso = objectMapper.readValue(texto, Curso.class);
+			if (curso == null) {
+				throw new IllegalArgumentException("La línea no contiene un curso");
+			}
+			return curso;
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("JSON inválido: " + e.getOriginalMessage());
+		}
+	}
+
+	private static int entero(String valor, String campo) {
+		try {
+			return Integer.parseInt(valor);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(campo + " no es un número entero: " + valor);
+		}
+	}
+
+	private static void validar(Curso curso) {
+		if (curso.getCodigo() == null || curso.getCodigo().isBlank()) {
+			throw new IllegalArgumentException("Falta el código del curso");
+		}
+		if (curso.getCodigo().length() > LONGITUD_MAXIMA
+				|| (curso.getNombre() != null && curso.getNombre().length() > LONGITUD_MAXIMA)) {
+			throw new IllegalArgumentException("El código y el nombre no pueden superar " + LONGITUD_MAXIMA
+					+ " caracteres");
+		}
+		if (curso.getNumeroHoras() < 0 || curso.getPrecio() < 0) {
+			throw new IllegalArgumentException("Las horas y el precio no pueden ser negativos");
+		}
+	}
+
+	/**
+	 * Separa una línea CSV en campos, respetando las comillas dobles.
+	 */
+	private List<String> campos(String texto) {
+		List<String> campos = new ArrayList<>();
+		StringBuilder actual = new StringBuilder();
+		boolean entreComillas = false;
+		for (int i = 0; i < texto.length(); i++) {
+			char caracter = texto.charAt(i);
+			if (entreComillas) {
+				if (caracter != '"') {
+					actual.append(caracter);
+				} else if (i + 1 < texto.length() && texto.charAt(i + 1) == '"') {
+					actual.append('"');
+					i++;
+				} else {
+					entreComillas = false;
+				}
+			} else if (caracter == '"') {
+				entreComillas = true;
+			} else if (caracter == separador) {
+				campos.add(actual.toString().trim());
+				actual.setLength(0);
+			} else {
+				actual.append(caracter);
+			}
+		}
+		if (entreComillas) {
+			throw new IllegalArgumentException("Comillas sin cerrar");
+		}
+		campos.add(actual.toString().trim());
+		return campos;
+	}
+}
@@ -0,0 +1,142 @@
+package com.viewnext.kidaprojects.cursosbdd.importacion;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.viewnext.kidaprojects.cursosbdd.importacion.EstadoImportacion.ErrorFila;
+
+/**
+ * Un trabajo de importación y su progreso.
+ *
+ * <p>
+ * La clase {@code TrabajoImportacion} guarda el fichero pendiente de procesar y
+ * los contadores que actualizan a la vez el hilo que lo lee y los hilos que
+ * escriben sus lotes. {@link #estado()} devuelve una foto coherente de esos
+ * contadores para la API.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class TrabajoImportacion {
+
+	private final String id;
+	private final FormatoImportacion formato;
+	private final Path fichero;
+	private final int maxErrores;
+
+	private final AtomicLong filasLeidas = new AtomicLong();
+	private final AtomicLong filasImportadas = new AtomicLong();
+	private final AtomicLong filasConError = new AtomicLong();
+	private final AtomicLong lotesEscritos = new AtomicLong();
+	private final List<ErrorFila> errores = new ArrayList<>();
+
+	private volatile EstadoTrabajo estado = EstadoTrabajo.EN_COLA;
+	private volatile boolean cancelado;
+	private volatile Instant inicio;
+	private volatile Instant fin;
+	private volatile String mensaje;
+
+	public TrabajoImportacion(String id, FormatoImportacion formato, Path fichero, int maxErrores) {
+		this.id = id;
+		this.formato = formato;
+		this.fichero = fichero;
+		this.maxErrores = maxErrores;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public FormatoImportacion getFormato() {
+		return formato;
+	}
+
+	public Path getFichero() {
+		return fichero;
+	}
+
+	public boolean isCancelado() {
+		return cancelado;
+	}
+
+	public boolean isTerminado() {
+		return estado.isTerminado();
+	}
+
+	/**
+	 * Pide la cancelación del trabajo. Los lotes que ya se están escribiendo
+	 * terminan; el resto del fichero no se procesa.
+	 *
+	 * @return {@code false} si el trabajo ya había terminado.
+	 */
+	public synchronized boolean cancelar() {
+		if (estado.isTerminado()) {
+			return false;
+		}
+		cancelado = true;
+		return true;
+	}
+
+	synchronized void empezar() {
+		inicio = Instant.now();
+		estado = EstadoTrabajo.EN_CURSO;
+	}
+
+	synchronized void terminar(EstadoTrabajo estadoFinal, String motivo) {
+		if (inicio == null) {
+			inicio = Instant.now();
+		}
+		fin = Instant.now();
+		mensaje = motivo;
+		estado = estadoFinal;
+	}
+
+	void registrarLeida() {
+		filasLeidas.incrementAndGet();
+	}
+
+	void registrarImportadas(int filas) {
+		filasImportadas.addAndGet(filas);
+	}
+
+	void registrarLote() {
+		lotesEscritos.incrementAndGet();
+	}
+
+	void registrarError(long linea, String motivo) {
+		filasConError.incrementAndGet();
+		synchronized (errores) {
+			if (errores.size() < maxErrores) {
+				errores.add(new ErrorFila(linea, motivo));
+			}
+		}
+	}
+
+	/**
+	 * Devuelve una foto del progreso del trabajo.
+	 *
+	 * @return El estado actual del trabajo.
+	 */
+	public synchronized EstadoImportacion estado() {
+		Instant desde = inicio;
+		Instant hasta = fin != null ? fin : Instant.now();
+		double segundos = desde == null ? 0 : Duration.between(desde, hasta).toNanos() / 1e9;
+		long importadas = filasImportadas.get();
+		List<ErrorFila> copiaErrores;
+		synchronized (errores) {
+			copiaErrores = List.copyOf(errores);
+		}
+		return new EstadoImportacion(id, estado, formato, filasLeidas.get(), importadas, filasConError.get(),
+				lotesEscritos.get(), segundos, segundos > 0 ? importadas / segundos : 0, inicio, fin, mensaje,
+				copiaErrores);
+	}
+}
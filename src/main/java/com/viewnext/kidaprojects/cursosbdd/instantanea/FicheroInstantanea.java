@@ -0,0 +1,254 @@
+package com.viewnext.kidaprojects.cursosbdd.instantanea;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.viewnext.kidaprojects.cursosbdd.analitica.ColumnasCursos;
+import com.viewnext.kidaprojects.cursosbdd.model.CriterioTop;
+
+/**
+ * Lectura y escritura del fichero de una {@link Instantanea}.
+ *
+ * <p>
+ * El fichero empieza por una cabecera de {@value #CABECERA} bytes (número mágico,
+ * versión, revisión, tamaños y el orden de bytes de las columnas) seguida de las
+ * tres columnas de enteros de los cursos (precio, horas e identificador de
+ * nombre). La cabecera ocupa un múltiplo de 8 bytes, así que las columnas quedan
+ * alineadas, y se escriben en el orden de bytes nativo de la máquina, el mismo
+ * que usa {@code CatalogoColumnar}, de modo que instalarlas desde el fichero
+ * mapeado es una copia en bloque. Un fichero escrito en una máquina con el otro
+ * orden se sigue leyendo bien, según indica la cabecera. Después van las
+ * clasificaciones, como listas de filas, y al final los textos: el diccionario de
+ * nombres y los códigos, cada uno con su longitud delante. Salvo las columnas,
+ * todo se escribe en big-endian. Los últimos 8 bytes son la suma CRC32 de todo lo
+ * anterior.
+ * </p>
+ *
+ * <p>
+ * La lectura mapea el fichero en memoria y comprueba la suma antes de
+ * interpretarlo. La escritura se hace en un fichero temporal del mismo directorio
+ * que sustituye al anterior con un movimiento atómico, así que nunca se lee un
+ * fichero a medio escribir.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public final class FicheroInstantanea {
+
+	static final int MAGICO = 0x43555253;
+	static final int VERSION = 2;
+
+	// Mágico, versión, revisión (segundos y nanosegundos), número de cursos, de
+	// nombres y de clasificaciones, catálogo completo, orden de bytes y relleno.
+	static final int CABECERA = 4 + 4 + 8 + 4 + 4 + 4 + 4 + 1 + 1 + 6;
+
+	private static final byte BIG_ENDIAN = 0;
+	private static final byte LITTLE_ENDIAN = 1;
+	private static final int ENTEROS_POR_BLOQUE = 1 << 14;
+
+	private FicheroInstantanea() {
+	}
+
+	/**
+	 * Guarda una instantánea, sustituyendo de forma atómica el fichero anterior.
+	 *
+	 * @param fichero     El fichero de destino.
+	 * @param instantanea La instantánea a guardar.
+	 * @throws IOException Si no se puede escribir el fichero.
+	 */
+	public static void escribir(Path fichero, Instantanea instantanea) throws IOException {
+		Path directorio = fichero.toAbsolutePath().getParent();
+		Files.createDirectories(directorio);
+		Path temporal = Files.createTempFile(directorio, fichero.getFileName().toString(), ".tmp");
+		try {
+			try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.WRITE)) {
+				CRC32 suma = new CRC32();
+				DataOutputStream salida = new DataOutputStream(new BufferedOutputStream(
+						new CheckedOutputStream(Channels.newOutputStream(canal), suma), 1 << 16));
+				escribirContenido(salida, instantanea);
+				salida.flush();
+
+				ByteBuffer valorSuma = ByteBuffer.allocate(Long.BYTES).putLong(0, suma.getValue());
+				while (valorSuma.hasRemaining()) {
+					canal.write(valorSuma);
+				}
+				canal.force(true);
+			}
+			Files.move(temporal, fichero, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temporal);
+		}
+	}
+
+	/**
+	 * Lee una instantánea mapeando el fichero en memoria. Las columnas de enteros
+	 * de la instantánea devuelta son vistas del fichero mapeado.
+	 *
+	 * @param fichero El fichero de la instantánea.
+	 * @return La instantánea leída.
+	 * @throws IOException Si no se puede leer el fichero o no es una instantánea válida.
+	 */
+	public static Instantanea leer(Path fichero) throws IOException {
+		MappedByteBuffer mapa;
+		try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.READ)) {
+			long tamano = canal.size();
+			if (tamano < CABECERA + Long.BYTES || tamano > Integer.MAX_VALUE) {
+				throw new IOException("Tamaño de instantánea no válido: " + tamano + " bytes");
+			}
+			mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamano);
+		}
+
+		int longitud = mapa.capacity() - Long.BYTES;
+		CRC32 suma = new CRC32();
+		suma.update(mapa.slice(0, longitud));
+		if (suma.getValue() != mapa.getLong(longitud)) {
+			throw new IOException("La suma de control de la instantánea no coincide");
+		}
+
+		try {
+			return leerContenido(mapa.slice(0, longitud));
+		} catch (RuntimeException e) {
+			throw new IOException("Instantánea mal formada", e);
+		}
+	}
+
+	private static void escribirContenido(DataOutputStream salida, Instantanea instantanea) throws IOException {
+		ColumnasCursos cursos = instantanea.cursos();
+		int numeroCursos = cursos.tamano();
+
+		salida.writeInt(MAGICO);
+		salida.writeInt(VERSION);
+		salida.writeLong(instantanea.revision().toEpochSecond(ZoneOffset.UTC));
+		salida.writeInt(instantanea.revision().getNano());
+		salida.writeInt(numeroCursos);
+		salida.writeInt(cursos.nombres().size());
+		salida.writeInt(instantanea.clasificaciones().size());
+		salida.writeBoolean(instantanea.catalogoCompleto());
+		ByteOrder orden = ByteOrder.nativeOrder();
+		salida.writeByte(orden == ByteOrder.LITTLE_ENDIAN ? LITTLE_ENDIAN : BIG_ENDIAN);
+		salida.write(new byte[CABECERA - salida.size()]);
+
+		ByteBuffer bloque = ByteBuffer.allocate(ENTEROS_POR_BLOQUE * Integer.BYTES).order(orden);
+		for (IntBuffer columna : List.of(cursos.precios(), cursos.horas(), cursos.idsNombre())) {
+			for (int desde = 0; desde < numeroCursos; desde += ENTEROS_POR_BLOQUE) {
+				int enteros = Math.min(ENTEROS_POR_BLOQUE, numeroCursos - desde);
+				bloque.asIntBuffer().put(0, columna, desde, enteros);
+				salida.write(bloque.array(), 0, enteros * Integer.BYTES);
+			}
+		}
+		for (Instantanea.Clasificacion clasificacion : instantanea.clasificaciones()) {
+			escribirTexto(salida, clasificacion.criterio().name());
+			salida.writeBoolean(clasificacion.ascendente());
+			salida.writeBoolean(clasificacion.catalogoCompleto());
+			salida.writeInt(clasificacion.filas().length);
+			for (int fila : clasificacion.filas()) {
+				salida.writeInt(fila);
+			}
+		}
+		for (String nombre : cursos.nombres()) {
+			escribirTexto(salida, nombre);
+		}
+		for (String codigo : cursos.codigos()) {
+			escribirTexto(salida, codigo);
+		}
+	}
+
+	private static Instantanea leerContenido(ByteBuffer datos) throws IOException {
+		if (datos.getInt() != MAGICO) {
+			throw new IOException("El fichero no es una instantánea del catálogo");
+		}
+		int version = datos.getInt();
+		if (version != VERSION) {
+			throw new IOException("Versión de instantánea no soportada: " + version);
+		}
+		LocalDateTime revision = LocalDateTime.ofEpochSecond(datos.getLong(), datos.getInt(), ZoneOffset.UTC);
+		int numeroCursos = datos.getInt();
+		int numeroNombres = datos.getInt();
+		int numeroClasificaciones = datos.getInt();
+		boolean catalogoCompleto = datos.get() != 0;
+		ByteOrder orden = switch (datos.get()) {
+		case BIG_ENDIAN -> ByteOrder.BIG_ENDIAN;
+		case LITTLE_ENDIAN -> ByteOrder.LITTLE_ENDIAN;
+		default -> throw new IOException("Orden de bytes de las columnas no válido");
+		};
+		datos.position(CABECERA);
+		if (numeroCursos < 0 || numeroCursos > datos.remaining() / (3 * Integer.BYTES)) {
+			throw new IOException("Número de cursos no válido: " + numeroCursos);
+		}
+
+		IntBuffer precios = columna(datos, numeroCursos, orden);
+		IntBuffer horas = columna(datos, numeroCursos, orden);
+		IntBuffer idsNombre = columna(datos, numeroCursos, orden);
+
+		List<Instantanea.Clasificacion> clasificaciones = new ArrayList<>();
+		for (int i = 0; i < numeroClasificaciones; i++) {
+			CriterioTop criterio = CriterioTop.valueOf(leerTexto(datos));
+			boolean ascendente = datos.get() != 0;
+			boolean completa = datos.get() != 0;
+			int[] filas = new int[datos.getInt()];
+			for (int j = 0; j < filas.length; j++) {
+				filas[j] = datos.getInt();
+				if (filas[j] < 0 || filas[j] >= numeroCursos) {
+					throw new IOException("Fila fuera de rango en la clasificación " + criterio);
+				}
+			}
+			clasificaciones.add(new Instantanea.Clasificacion(criterio, ascendente, completa, filas));
+		}
+
+		List<String> nombres = new ArrayList<>(numeroNombres);
+		for (int i = 0; i < numeroNombres; i++) {
+			nombres.add(leerTexto(datos));
+		}
+		List<String> codigos = new ArrayList<>(numeroCursos);
+		for (int i = 0; i < numeroCursos; i++) {
+			codigos.add(leerTexto(datos));
+		}
+		if (datos.hasRemaining()) {
+			throw new IOException("Sobran " + datos.remaining() + " bytes al final de la instantánea");
+		}
+		return new Instantanea(revision, catalogoCompleto, new ColumnasCursos(codigos, nombres, precios, horas, idsNombre),
+				clasificaciones);
+	}
+
+	private static IntBuffer columna(ByteBuffer datos, int numeroCursos, ByteOrder orden) {
+		int bytes = numeroCursos * Integer.BYTES;
+		IntBuffer columna = datos.slice(datos.position(), bytes).order(orden).asIntBuffer();
+		datos.position(datos.position() + bytes);
+		return columna;
+	}
+
+	private static void escribirTexto(DataOutputStream salida, String texto) throws IOException {
+		byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+		salida.writeInt(bytes.length);
+		salida.write(bytes);
+	}
+
+	private static String leerTexto(ByteBuffer datos) {
+		byte[] bytes = new byte[datos.getInt()];
+		datos.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
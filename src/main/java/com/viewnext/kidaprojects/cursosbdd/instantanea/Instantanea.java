@@ -0,0 +1,38 @@
+package com.viewnext.kidaprojects.cursosbdd.instantanea;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.viewnext.kidaprojects.cursosbdd.analitica.ColumnasCursos;
+import com.viewnext.kidaprojects.cursosbdd.model.CriterioTop;
+
+/**
+ * Contenido de una instantánea del catálogo: los cursos en columnas y las
+ * clasificaciones de los N primeros como referencias a sus filas.
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @param revision         La hora de la base de datos hasta la que la instantánea está al día.
+ * @param catalogoCompleto {@code true} si {@code cursos} contiene todo el catálogo;
+ *                         si no, solo los cursos de las clasificaciones.
+ * @param cursos           Los cursos guardados.
+ * @param clasificaciones  Las clasificaciones guardadas.
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public record Instantanea(LocalDateTime revision, boolean catalogoCompleto, ColumnasCursos cursos,
+		List<Clasificacion> clasificaciones) {
+
+	/**
+	 * Clasificación de los N primeros cursos según un criterio.
+	 *
+	 * @param criterio         El criterio de ordenación.
+	 * @param ascendente       El sentido de la ordenación.
+	 * @param catalogoCompleto {@code true} si la clasificación contiene todos los cursos del catálogo.
+	 * @param filas            Las filas de {@code cursos} que forman la clasificación, en orden.
+	 */
+	public record Clasificacion(CriterioTop criterio, boolean ascendente, boolean catalogoCompleto, int[] filas) {
+	}
+}
@@ -0,0 +1,94 @@
+package com.viewnext.kidaprojects.cursosbdd.instantanea;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración de la instantánea en disco del catálogo.
+ *
+ * <p>
+ * La clase {@code InstantaneaProperties} agrupa las propiedades con prefijo
+ * {@code cursos.instantanea}, que controlan dónde y cada cuánto se guarda la
+ * instantánea y cuánto margen se toma al ponerla al día desde la base de datos.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@ConfigurationProperties(prefix = "cursos.instantanea")
+public class InstantaneaProperties {
+
+	/**
+	 * Activa la instantánea: se carga al arrancar y se guarda periódicamente.
+	 */
+	private boolean habilitada = false;
+
+	/**
+	 * Fichero de la instantánea. Puede estar en un volumen compartido por varias
+	 * instancias; se sustituye de forma atómica.
+	 */
+	private Path fichero = Path.of("instantanea", "cursos.bin");
+
+	/**
+	 * Cada cuánto se pone al día la instantánea con la base de datos y se guarda.
+	 */
+	private Duration intervalo = Duration.ofMinutes(5);
+
+	/**
+	 * Tiempo que se relee antes de la última revisión al ponerse al día. Cubre las
+	 * transacciones que confirmaron tarde y el desfase entre relojes.
+	 */
+	private Duration margen = Duration.ofMinutes(1);
+
+	/**
+	 * Tiempo que se conservan las constancias de borrado. Una instantánea más
+	 * antigua no puede ponerse al día y se descarta.
+	 */
+	private Duration retencionBorrados = Duration.ofDays(7);
+
+	public boolean isHabilitada() {
+		return habilitada;
+	}
+
+	public void setHabilitada(boolean habilitada) {
+		this.habilitada = habilitada;
+	}
+
+	public Path getFichero() {
+		return fichero;
+	}
+
+	public void setFichero(Path fichero) {
+		this.fichero = fichero;
+	}
+
+	public Duration getIntervalo() {
+		return intervalo;
+	}
+
+	public void setIntervalo(Duration intervalo) {
+		this.intervalo = intervalo;
+	}
+
+	public Duration getMargen() {
+		return margen;
+	}
+
+	public void setMargen(Duration margen) {
+		this.margen = margen;
+	}
+
+	public Duration getRetencionBorrados() {
+		return retencionBorrados;
+	}
+
+	public void setRetencionBorrados(Duration retencionBorrados) {
+		this.retencionBorrados = retencionBorrados;
+	}
+}
@@ -0,0 +1,277 @@
+package com.viewnext.kidaprojects.cursosbdd.instantanea;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.viewnext.kidaprojects.cursosbdd.analitica.CatalogoColumnar;
+import com.viewnext.kidaprojects.cursosbdd.analitica.ColumnasCursos;
+import com.viewnext.kidaprojects.cursosbdd.event.CursoBorradoEvent;
+import com.viewnext.kidaprojects.cursosbdd.event.CursosGuardadosEvent;
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+import com.viewnext.kidaprojects.cursosbdd.repository.CursoRepository;
+import com.viewnext.kidaprojects.cursosbdd.service.TopCursosEnMemoria;
+
+/**
+ * Arranque en caliente de las estructuras en memoria del catálogo a partir de una
+ * instantánea en disco.
+ *
+ * <p>
+ * La clase {@code SincronizadorInstantanea} carga al arrancar la última
+ * {@link Instantanea} guardada e instala su contenido en el
+ * {@link CatalogoColumnar} y en las clasificaciones de {@link TopCursosEnMemoria}
+ * que estén activos. Después la pone al día con los cursos modificados y
+ * borrados desde su revisión, que se leen por índice sin recorrer la tabla. Todo
+ * ocurre antes de que la aplicación se declare lista. Si no hay instantánea, o es
+ * demasiado antigua para ponerla al día, el catálogo se carga una vez de la base
+ * de datos y se guarda la primera instantánea.
+ * </p>
+ *
+ * <p>
+ * Periódicamente vuelve a ponerse al día, con lo que también recoge las
+ * escrituras hechas por otras instancias, guarda una instantánea nueva y elimina
+ * las constancias de borrado que ya no hacen falta. Al cerrar la aplicación guarda
+ * una última instantánea. Los cambios leídos de la base de datos se publican como
+ * los mismos eventos que publica el servicio al escribir, así que cada estructura
+ * los aplica igual que las escrituras propias.
+ * </p>
+ *
+ * <p>
+ * La revisión es la hora de la base de datos. Cada puesta al día relee también el
+ * margen configurado antes de la última revisión, para no perder transacciones
+ * que confirmaron tarde; aplicar dos veces el mismo cambio no tiene efecto.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class SincronizadorInstantanea implements ApplicationRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(SincronizadorInstantanea.class);
+
+	private final CursoRepository cursoRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final InstantaneaProperties propiedades;
+	private final CatalogoColumnar catalogoColumnar;
+	private final TopCursosEnMemoria topCursos;
+	private final ScheduledExecutorService programador;
+
+	private LocalDateTime revision;
+
+	/**
+	 * Crea el sincronizador.
+	 *
+	 * @param cursoRepository  El repositorio del que se leen los cambios.
+	 * @param eventPublisher   El publicador con el que se aplican los cambios.
+	 * @param propiedades      La configuración de la instantánea.
+	 * @param catalogoColumnar El catálogo columnar, o {@code null} si no está activo.
+	 * @param topCursos        Las clasificaciones en memoria, o {@code null} si no están activas.
+	 */
+	public SincronizadorInstantanea(CursoRepository cursoRepository, ApplicationEventPublisher eventPublisher,
+			InstantaneaProperties propiedades, CatalogoColumnar catalogoColumnar, TopCursosEnMemoria topCursos) {
+		this.cursoRepository = cursoRepository;
+		this.eventPublisher = eventPublisher;
+		this.propiedades = propiedades;
+		this.catalogoColumnar = catalogoColumnar;
+		this.topCursos = topCursos;
+		this.programador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+			Thread hilo = new Thread(tarea, "instantanea");
+			hilo.setDaemon(true);
+			return hilo;
+		});
+	}
+
+	@Override
+	public void run(ApplicationArguments argumentos) {
+		arrancar();
+		long intervalo = propiedades.getIntervalo().toMillis();
+		programador.scheduleWithFixedDelay(this::mantener, intervalo, intervalo, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Detiene las tareas periódicas y guarda una última instantánea.
+	 */
+	public void cerrar() {
+		programador.shutdownNow();
+		try {
+			if (getRevision() != null) {
+				guardar();
+			}
+		} catch (IOException | RuntimeException e) {
+			log.warn("No se puede guardar la instantánea al cerrar", e);
+		}
+	}
+
+	/**
+	 * Instala la instantánea guardada y la pone al día, o carga el catálogo de la
+	 * base de datos si no hay una instantánea utilizable.
+	 */
+	synchronized void arrancar() {
+		long inicio = System.nanoTime();
+		Instantanea instantanea = leer();
+		if (instantanea != null) {
+			instalar(instantanea);
+			revision = instantanea.revision();
+			sincronizar();
+		} else {
+			revision = cursoRepository.findMarcaTiempo();
+		}
+		if (catalogoColumnar != null) {
+			// Carga el catálogo de la base de datos si la instantánea no lo incluía.
+			catalogoColumnar.getNumeroCursos();
+		}
+		log.info("Estructuras en memoria listas en {} ms ({})", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio),
+				instantanea != null ? "desde la instantánea" : "desde la base de datos");
+
+		try {
+			guardar();
+		} catch (IOException e) {
+			log.warn("No se puede guardar la instantánea en {}", propiedades.getFichero(), e);
+		}
+	}
+
+	/**
+	 * Aplica los cursos modificados y borrados desde la última revisión, menos el
+	 * margen, y avanza la revisión.
+	 */
+	synchronized void sincronizar() {
+		LocalDateTime marca = cursoRepository.findMarcaTiempo();
+		LocalDateTime desde = revision.minus(propiedades.getMargen());
+		List<String> borrados = cursoRepository.findBorradosDesde(desde);
+		List<Curso> cambios = cursoRepository.findModificadosDesde(desde);
+
+		// Un código borrado que aparece entre los cambios se ha vuelto a dar de alta.
+		Set<String> presentes = cambios.stream().map(Curso::getCodigo).collect(Collectors.toSet());
+		borrados.stream()
+				.filter(codigo -> !presentes.contains(codigo))
+				.forEach(codigo -> eventPublisher.publishEvent(new CursoBorradoEvent(codigo)));
+		if (!cambios.isEmpty()) {
+			eventPublisher.publishEvent(new CursosGuardadosEvent(cambios));
+		}
+		revision = marca;
+		log.debug("Instantánea al día hasta {}: {} cambios y {} borrados", marca, cambios.size(), borrados.size());
+	}
+
+	/**
+	 * Guarda en disco el contenido actual de las estructuras en memoria.
+	 *
+	 * @throws IOException Si no se puede escribir el fichero.
+	 */
+	synchronized void guardar() throws IOException {
+		List<TopCursosEnMemoria.Contenido> contenidos = topCursos != null ? topCursos.exportar() : List.of();
+		ColumnasCursos cursos = catalogoColumnar != null ? catalogoColumnar.exportar() : null;
+		boolean catalogoCompleto = cursos != null;
+		if (cursos == null) {
+			Map<String, Curso> miembros = new LinkedHashMap<>();
+			contenidos.forEach(contenido -> contenido.cursos()
+					.forEach(curso -> miembros.putIfAbsent(curso.getCodigo(), curso)));
+			cursos = ColumnasCursos.de(new ArrayList<>(miembros.values()));
+		}
+
+		Map<String, Integer> filaPorCodigo = new HashMap<>();
+		for (int fila = 0; fila < cursos.tamano(); fila++) {
+			filaPorCodigo.put(cursos.codigos().get(fila), fila);
+		}
+		List<Instantanea.Clasificacion> clasificaciones = new ArrayList<>();
+		for (TopCursosEnMemoria.Contenido contenido : contenidos) {
+			int[] filas = filas(contenido.cursos(), filaPorCodigo);
+			// Una clasificación con cursos que ya no están en el catálogo se recargará al consultarla.
+			if (filas != null) {
+				clasificaciones.add(new Instantanea.Clasificacion(contenido.criterio(), contenido.ascendente(),
+						contenido.catalogoCompleto(), filas));
+			}
+		}
+
+		FicheroInstantanea.escribir(propiedades.getFichero(),
+				new Instantanea(revision, catalogoCompleto, cursos, clasificaciones));
+	}
+
+	synchronized LocalDateTime getRevision() {
+		return revision;
+	}
+
+	private void mantener() {
+		try {
+			sincronizar();
+			guardar();
+			cursoRepository.purgarBorrados(getRevision().minus(propiedades.getRetencionBorrados()));
+		} catch (IOException | RuntimeException e) {
+			log.warn("No se puede poner al día o guardar la instantánea", e);
+		}
+	}
+
+	private Instantanea leer() {
+		Path fichero = propiedades.getFichero();
+		if (!Files.exists(fichero)) {
+			log.info("No hay instantánea en {}; se carga el catálogo de la base de datos", fichero);
+			return null;
+		}
+		Instantanea instantanea;
+		try {
+			instantanea = FicheroInstantanea.leer(fichero);
+		} catch (IOException e) {
+			log.warn("No se puede leer la instantánea {}; se carga el catálogo de la base de datos", fichero, e);
+			return null;
+		}
+
+		LocalDateTime limite = cursoRepository.findMarcaTiempo().minus(propiedades.getRetencionBorrados());
+		if (instantanea.revision().minus(propiedades.getMargen()).isBefore(limite)) {
+			log.warn("La instantánea {} es de {}, anterior a la retención de borrados; se descarta", fichero,
+					instantanea.revision());
+			return null;
+		}
+		return instantanea;
+	}
+
+	private void instalar(Instantanea instantanea) {
+		ColumnasCursos cursos = instantanea.cursos();
+		if (catalogoColumnar != null && instantanea.catalogoCompleto()) {
+			catalogoColumnar.instalar(cursos);
+		}
+		if (topCursos != null) {
+			List<TopCursosEnMemoria.Contenido> contenidos = new ArrayList<>();
+			for (Instantanea.Clasificacion clasificacion : instantanea.clasificaciones()) {
+				List<Curso> miembros = new ArrayList<>(clasificacion.filas().length);
+				for (int fila : clasificacion.filas()) {
+					miembros.add(cursos.curso(fila));
+				}
+				contenidos.add(new TopCursosEnMemoria.Contenido(clasificacion.criterio(), clasificacion.ascendente(),
+						clasificacion.catalogoCompleto(), miembros));
+			}
+			topCursos.instalar(contenidos);
+		}
+	}
+
+	private static int[] filas(List<Curso> cursos, Map<String, Integer> filaPorCodigo) {
+		int[] filas = new int[cursos.size()];
+		for (int i = 0; i < filas.length; i++) {
+			Integer fila = filaPorCodigo.get(cursos.get(i).getCodigo());
+			if (fila == null) {
+				return null;
+			}
+			filas[i] = fila;
+		}
+		return filas;
+	}
+}
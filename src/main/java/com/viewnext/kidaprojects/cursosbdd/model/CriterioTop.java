@@ -0,0 +1,79 @@
+package com.viewnext.kidaprojects.cursosbdd.model;
+
+import java.util.Comparator;
+
+/**
+ * Criterios por los que se pueden ordenar los listados de los N primeros cursos.
+ *
+ * <p>
+ * Cada criterio define el nombre con el que se indica en la API, el orden
+ * ascendente entre cursos (desempatando por código para que el resultado sea
+ * estable) y si un curso participa o no en la clasificación. Los cursos con cero
+ * horas no tienen precio por hora y quedan fuera de ese criterio.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public enum CriterioTop {
+
+	PRECIO("precio", Comparator.comparingInt(Curso::getPrecio)),
+	HORAS("horas", Comparator.comparingInt(Curso::getNumeroHoras)),
+	PRECIO_POR_HORA("precio-hora", Comparator.comparingDouble(CriterioTop::precioPorHora));
+
+	private final String nombre;
+	private final Comparator<Curso> ordenAscendente;
+
+	CriterioTop(String nombre, Comparator<Curso> orden) {
+		this.nombre = nombre;
+		this.ordenAscendente = orden.thenComparing(Curso::getCodigo);
+	}
+
+	/**
+	 * Busca el criterio que corresponde al nombre usado en la API.
+	 *
+	 * @param nombre El nombre del criterio ({@code precio}, {@code horas} o {@code precio-hora}).
+	 * @return El criterio correspondiente.
+	 * @throws IllegalArgumentException Si el nombre no corresponde a ningún criterio.
+	 */
+	public static CriterioTop porNombre(String nombre) {
+		for (CriterioTop criterio : values()) {
+			if (criterio.nombre.equalsIgnoreCase(nombre)) {
+				return criterio;
+			}
+		}
+		throw new IllegalArgumentException("Criterio de ordenación desconocido: " + nombre);
+	}
+
+	/**
+	 * Devuelve el orden entre cursos según este criterio, con el mejor primero.
+	 *
+	 * @param ascendente {@code true} para ordenar de menor a mayor.
+	 * @return El comparador correspondiente.
+	 */
+	public Comparator<Curso> orden(boolean ascendente) {
+		return ascendente ? ordenAscendente : ordenAscendente.reversed();
+	}
+
+	/**
+	 * Indica si un curso participa en la clasificación de este criterio.
+	 *
+	 * @param curso El curso a comprobar.
+	 * @return {@code true} si el curso puede ordenarse por este criterio.
+	 */
+	public boolean admite(Curso curso) {
+		return this != PRECIO_POR_HORA || curso.getNumeroHoras() > 0;
+	}
+
+	public String getNombre() {
+		return nombre;
+	}
+
+	private static double precioPorHora(Curso curso) {
+		return (double) curso.getPrecio() / curso.getNumeroHoras();
+	}
+}
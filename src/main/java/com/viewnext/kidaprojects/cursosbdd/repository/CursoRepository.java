@@ -1,11 +1,18 @@
 package com.viewnext.kidaprojects.cursosbdd.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.viewnext.kidaprojects.cursosbdd.model.CriterioTop;
 import com.viewnext.kidaprojects.cursosbdd.model.Curso;
 
 /**
@@ -25,7 +32,7 @@ import com.viewnext.kidaprojects.cursosbdd.model.Curso;
  * @version 1.0
  * @since 27 de septiembre de 2023
  */
-public interface CursoRepository extends JpaRepository<Curso, String> {
+public interface CursoRepository extends JpaRepository<Curso, String>, CursoRepositoryLotes {
 
 	
 	/**
@@ -39,14 +46,127 @@ public interface CursoRepository extends JpaRepository<Curso, String> {
 	List<Curso> findByPrecioBetween(int precioMinimo, int precioMaximo);
 
 	/**
-	 * Busca cursos cuyos nombres comienzan con el prefijo especificado.
+	 * Busca cursos cuyos nombres encajan con un patrón de {@code LIKE} que usa
+	 * {@code !} como carácter de escape.
+	 *
+	 * @param patron El patrón, con los comodines del usuario ya escapados.
+	 * @return Una lista de objetos {@code Curso} cuyos nombres coinciden con el patrón especificado.
+	 */
+	@Query("SELECT c FROM Curso c WHERE c.nombre LIKE :patron ESCAPE '!'")
+	List<Curso> findByNombreLike(@Param("patron") String patron);
+
+	/**
+	 * Busca cursos cuyos nombres comienzan con el prefijo especificado. Los
+	 * caracteres {@code %} y {@code _} del prefijo se comparan literalmente.
 	 *
 	 * @param nombrePrefix El prefijo que se utiliza para buscar cursos.
 	 * @return Una lista de objetos {@code Curso} cuyos nombres coinciden con el patrón especificado.
 	 */
-	@Query("SELECT c FROM Curso c WHERE c.nombre LIKE :nombrePrefix%")
-	List<Curso> findCursosByNombreStartingWith(@Param("nombrePrefix") String nombrePrefix);
+	default List<Curso> findCursosByNombreStartingWith(String nombrePrefix) {
+		return findByNombreLike(nombrePrefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%");
+	}
+
+	/**
+	 * Recupera una página de cursos sin calcular el número total de resultados. La
+	 * ordenación y el límite se indican en el {@code Pageable} y se traducen a
+	 * {@code ORDER BY ... LIMIT} en la consulta.
+	 *
+	 * @param pageable La página, con su tamaño y su ordenación.
+	 * @return Una lista con los cursos de la página solicitada.
+	 */
+	List<Curso> findAllBy(Pageable pageable);
+
+	/**
+	 * Recupera los cursos con menor precio por hora. Los cursos sin horas quedan fuera.
+	 * La ordenación usa la columna generada e indexada {@code precio_por_hora}.
+	 *
+	 * @param pageable La página que limita el número de resultados.
+	 * @return Una lista de cursos ordenada de menor a mayor precio por hora.
+	 */
+	@Query(value = "SELECT codigo, nombre, numero_horas, precio FROM cursos WHERE precio_por_hora IS NOT NULL"
+			+ " ORDER BY precio_por_hora ASC, codigo ASC", nativeQuery = true)
+	List<Curso> findByPrecioPorHoraAsc(Pageable pageable);
+
+	/**
+	 * Recupera los cursos con mayor precio por hora. Los cursos sin horas quedan fuera.
+	 *
+	 * @param pageable La página que limita el número de resultados.
+	 * @return Una lista de cursos ordenada de mayor a menor precio por hora.
+	 */
+	@Query(value = "SELECT codigo, nombre, numero_horas, precio FROM cursos WHERE precio_por_hora IS NOT NULL"
+			+ " ORDER BY precio_por_hora DESC, codigo DESC", nativeQuery = true)
+	List<Curso> findByPrecioPorHoraDesc(Pageable pageable);
 
+	/**
+	 * Recupera los cursos dados de alta o modificados a partir del momento indicado,
+	 * según la columna {@code modificado} que mantiene la base de datos.
+	 *
+	 * @param desde El momento, en el reloj de la base de datos, a partir del cual se buscan cambios.
+	 * @return Una lista con los cursos modificados desde ese momento.
+	 */
+	@Query(value = "SELECT codigo, nombre, numero_horas, precio FROM cursos WHERE modificado >= :desde", nativeQuery = true)
+	List<Curso> findModificadosDesde(@Param("desde") LocalDateTime desde);
 
+	/**
+	 * Recupera los códigos de los cursos borrados a partir del momento indicado. Un
+	 * código puede haberse vuelto a dar de alta después de borrarse.
+	 *
+	 * @param desde El momento, en el reloj de la base de datos, a partir del cual se buscan borrados.
+	 * @return Una lista con los códigos borrados desde ese momento.
+	 */
+	@Query(value = "SELECT codigo FROM cursos_borrados WHERE borrado >= :desde", nativeQuery = true)
+	List<String> findBorradosDesde(@Param("desde") LocalDateTime desde);
+
+	/**
+	 * Deja constancia del borrado de un curso para que las copias en memoria del
+	 * catálogo puedan ponerse al día sin leer la tabla entera.
+	 *
+	 * @param codigo El código del curso borrado.
+	 */
+	@Modifying
+	@Transactional
+	@Query(value = "INSERT INTO cursos_borrados (codigo, borrado) VALUES (:codigo, CURRENT_TIMESTAMP(6))"
+			+ " ON DUPLICATE KEY UPDATE borrado = CURRENT_TIMESTAMP(6)", nativeQuery = true)
+	void registrarBorrado(@Param("codigo") String codigo);
+
+	/**
+	 * Elimina las constancias de borrado anteriores al momento indicado.
+	 *
+	 * @param antes El momento, en el reloj de la base de datos, antes del cual se eliminan.
+	 * @return El número de constancias eliminadas.
+	 */
+	@Modifying
+	@Transactional
+	@Query(value = "DELETE FROM cursos_borrados WHERE borrado < :antes", nativeQuery = true)
+	int purgarBorrados(@Param("antes") LocalDateTime antes);
+
+	/**
+	 * Devuelve la hora actual de la base de datos, que es la referencia de las
+	 * columnas {@code modificado} y {@code borrado}.
+	 *
+	 * @return La hora actual según la base de datos.
+	 */
+	@Query(value = "SELECT CURRENT_TIMESTAMP(6)", nativeQuery = true)
+	LocalDateTime findMarcaTiempo();
+
+	/**
+	 * Recupera los {@code n} primeros cursos según un criterio de ordenación.
+	 *
+	 * @param criterio   El criterio de ordenación.
+	 * @param ascendente {@code true} para los menores valores, {@code false} para los mayores.
+	 * @param n          El número máximo de cursos a recuperar.
+	 * @return Una lista con como mucho {@code n} cursos, ordenada según el criterio.
+	 */
+	default List<Curso> findTop(CriterioTop criterio, boolean ascendente, int n) {
+		Sort.Direction direccion = ascendente ? Sort.Direction.ASC : Sort.Direction.DESC;
+		switch (criterio) {
+		case PRECIO:
+			return findAllBy(PageRequest.of(0, n, Sort.by(direccion, "precio", "codigo")));
+		case HORAS:
+			return findAllBy(PageRequest.of(0, n, Sort.by(direccion, "numeroHoras", "codigo")));
+		default:
+			return ascendente ? findByPrecioPorHoraAsc(PageRequest.of(0, n)) : findByPrecioPorHoraDesc(PageRequest.of(0, n));
+		}
+	}
     
 }
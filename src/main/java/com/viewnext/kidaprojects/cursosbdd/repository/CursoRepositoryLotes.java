@@ -0,0 +1,35 @@
+package com.viewnext.kidaprojects.cursosbdd.repository;
+
+import java.util.List;
+
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+
+/**
+ * Escritura por lotes de cursos sin pasar por el contexto de persistencia.
+ *
+ * <p>
+ * La interfaz {@code CursoRepositoryLotes} es un fragmento de
+ * {@link CursoRepository}. {@code saveAll} de JPA hace un {@code merge} de cada
+ * curso, porque el código es un identificador asignado y no sabe si el curso ya
+ * existe, así que cada fila cuesta un {@code SELECT} y un {@code INSERT} o
+ * {@code UPDATE}. Este fragmento escribe el lote con una sola sentencia
+ * {@code INSERT ... ON DUPLICATE KEY UPDATE} enviada como lote JDBC.
+ * </p>
+ *
+ * <p>
+ * El autor de esta interfaz es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public interface CursoRepositoryLotes {
+
+	/**
+	 * Da de alta los cursos nuevos y sobrescribe los que ya existen, en una sola
+	 * transacción.
+	 *
+	 * @param cursos Los cursos que se desea guardar.
+	 */
+	void guardarEnLote(List<Curso> cursos);
+}
@@ -0,0 +1,44 @@
+package com.viewnext.kidaprojects.cursosbdd.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+
+/**
+ * Implementación de {@link CursoRepositoryLotes} con {@code JdbcTemplate}.
+ *
+ * <p>
+ * La clase {@code CursoRepositoryLotesImpl} comparte la fuente de datos y la
+ * transacción de JPA, de modo que el lote se confirma o se deshace entero.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class CursoRepositoryLotesImpl implements CursoRepositoryLotes {
+
+	private static final String GUARDAR = "INSERT INTO cursos (codigo, nombre, numero_horas, precio) VALUES (:codigo, :nombre, :numeroHoras, :precio)"
+			+ " ON DUPLICATE KEY UPDATE nombre = VALUES(nombre), numero_horas = VALUES(numero_horas), precio = VALUES(precio)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public CursoRepositoryLotesImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	@Transactional
+	public void guardarEnLote(List<Curso> cursos) {
+		jdbcTemplate.batchUpdate(GUARDAR,
+				cursos.stream().map(BeanPropertySqlParameterSource::new).toArray(SqlParameterSource[]::new));
+	}
+}
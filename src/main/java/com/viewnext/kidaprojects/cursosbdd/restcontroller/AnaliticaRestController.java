@@ -0,0 +1,74 @@
+package com.viewnext.kidaprojects.cursosbdd.restcontroller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.viewnext.kidaprojects.cursosbdd.analitica.CatalogoColumnar;
+
+/**
+ * Controlador REST de las consultas analíticas sobre el catálogo de cursos.
+ *
+ * <p>
+ * La clase {@code AnaliticaRestController} expone agregaciones sobre todo el
+ * catálogo que se resuelven con el {@link CatalogoColumnar}, sin consultar la base
+ * de datos ni crear objetos {@code Curso}. Solo existe con la propiedad
+ * {@code cursos.columnar.habilitado=true}.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@RestController
+@ConditionalOnProperty(prefix = "cursos.columnar", name = "habilitado", havingValue = "true")
+public class AnaliticaRestController {
+
+	@Autowired
+	private CatalogoColumnar catalogoColumnar;
+
+	private static final String INVALID_ARGUMENT = "Formato de argumento inválido";
+
+	/**
+	 * Agrupa los cursos por tramos de precio y devuelve, para cada tramo con
+	 * cursos, su número y la suma y la media de precios y horas.
+	 *
+	 * @param tramo El ancho de cada tramo de precio.
+	 * @return Un objeto ResponseEntity con la lista de tramos, o un mensaje de
+	 *         error si el ancho no es válido o genera demasiados tramos.
+	 */
+	@GetMapping(value = "cursos/analitica/precio", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<?> resumirPorTramoPrecio(@RequestParam(value = "tramo", defaultValue = "100") int tramo) {
+		try {
+			return ResponseEntity.ok(catalogoColumnar.resumenPorTramoPrecio(tramo));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(INVALID_ARGUMENT);
+		}
+	}
+
+	/**
+	 * Cuenta los cursos cuyas horas están en un rango, ambos extremos incluidos.
+	 *
+	 * @param minimo El mínimo de horas.
+	 * @param maximo El máximo de horas.
+	 * @param nombre Opcional: cuenta solo los cursos con este nombre exacto.
+	 * @return Un objeto ResponseEntity con el número de cursos, o un mensaje de
+	 *         error si el rango no es válido.
+	 */
+	@GetMapping(value = "cursos/analitica/horas", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<?> contarPorRangoHoras(@RequestParam("minimo") int minimo,
+			@RequestParam("maximo") int maximo, @RequestParam(value = "nombre", required = false) String nombre) {
+		if (minimo > maximo) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(INVALID_ARGUMENT);
+		}
+		return ResponseEntity.ok(catalogoColumnar.contarPorRangoHoras(minimo, maximo, nombre));
+	}
+}
@@ -1,6 +1,7 @@
 package com.viewnext.kidaprojects.cursosbdd.restcontroller;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -14,9 +15,9 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import com.viewnext.kidaprojects.cursosbdd.model.CriterioTop;
 import com.viewnext.kidaprojects.cursosbdd.model.Curso;
 import com.viewnext.kidaprojects.cursosbdd.service.CursoService;
-import jakarta.persistence.EntityNotFoundException;
 
 /**
  * Implementación del controlador REST para gestionar cursos en la aplicación.
@@ -42,6 +43,7 @@ public class CursoRestController {
 
 	private static final String CURSO_NOT_FOUND = "Curso con los argumentos introducidos no encontrado";
 	private static final String INVALID_ARGUMENT = "Formato de argumento inválido";
+	private static final int TOP_MAXIMO = 100;
 
 	/**
 	 * Recupera y devuelve una lista de todos los cursos disponibles en la
@@ -66,12 +68,12 @@ public class CursoRestController {
 	 */
 	@GetMapping(value = "curso/{codigo}", produces = MediaType.APPLICATION_JSON_VALUE)
 	public ResponseEntity<?> mostrarCursoByCodigo(@PathVariable("codigo") String codigo) {
-		try {
-			Curso curso = cursoService.mostrarCursoByCodigo(codigo);
-			return ResponseEntity.ok(curso);
-		} catch (EntityNotFoundException e) {
+		Optional<Curso> curso = cursoService.mostrarCursoByCodigo(codigo);
+
+		if (curso.isEmpty()) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(CURSO_NOT_FOUND);
 		}
+		return ResponseEntity.ok(curso.get());
 	}
 
 	/**
@@ -85,12 +87,12 @@ public class CursoRestController {
 	 */
 	@GetMapping(value = "cursos/nombre/{nombre}", produces = MediaType.APPLICATION_JSON_VALUE)
 	public ResponseEntity<?> mostrarCursosLikeNombre(@PathVariable("nombre") String nombre) {
-		try {
-			List<Curso> listaCursos = cursoService.mostrarCursosLikeNombre(nombre);
-			return ResponseEntity.ok(listaCursos);
-		} catch (EntityNotFoundException e) {
+		List<Curso> listaCursos = cursoService.mostrarCursosLikeNombre(nombre);
+
+		if (listaCursos.isEmpty()) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(CURSO_NOT_FOUND);
 		}
+		return ResponseEntity.ok(listaCursos);
 	}
 
 	/**
@@ -107,15 +109,45 @@ public class CursoRestController {
 	@GetMapping(value = "cursos/rango", produces = MediaType.APPLICATION_JSON_VALUE)
 	public ResponseEntity<?> mostrarCursosPorRangoPrecio(@RequestParam("precioMinimo") int precioMinimo,
 			@RequestParam("precioMaximo") int precioMaximo) {
-		try {
-			List<Curso> listaCursos = cursoService.mostrarCursosPorRangoPrecio(precioMinimo, precioMaximo);
-			return ResponseEntity.ok(listaCursos);
-		} catch (EntityNotFoundException e) {
+		List<Curso> listaCursos = cursoService.mostrarCursosPorRangoPrecio(precioMinimo, precioMaximo);
+
+		if (listaCursos.isEmpty()) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(CURSO_NOT_FOUND);
 		}
+		return ResponseEntity.ok(listaCursos);
 
 	}
 
+	/**
+	 * Recupera y devuelve los primeros cursos según un criterio de ordenación, por
+	 * ejemplo los 10 más baratos ({@code criterio=precio&orden=asc&n=10}).
+	 *
+	 * @param criterio El criterio de ordenación: {@code precio}, {@code horas} o
+	 *                 {@code precio-hora}.
+	 * @param orden    {@code asc} para los menores valores o {@code desc} para los
+	 *                 mayores.
+	 * @param n        El número de cursos a devolver, entre 1 y 100.
+	 * @return Un objeto ResponseEntity con una respuesta HTTP que contiene la lista
+	 *         ordenada de cursos, o un mensaje de error si los argumentos no son
+	 *         válidos.
+	 */
+	@GetMapping(value = "cursos/top", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<?> mostrarTopCursos(@RequestParam("criterio") String criterio,
+			@RequestParam(value = "orden", defaultValue = "asc") String orden,
+			@RequestParam(value = "n", defaultValue = "10") int n) {
+		boolean ascendente = "asc".equalsIgnoreCase(orden);
+		if ((!ascendente && !"desc".equalsIgnoreCase(orden)) || n < 1 || n > TOP_MAXIMO) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(INVALID_ARGUMENT);
+		}
+
+		try {
+			List<Curso> listaCursos = cursoService.mostrarTopCursos(CriterioTop.porNombre(criterio), ascendente, n);
+			return ResponseEntity.ok(listaCursos);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(INVALID_ARGUMENT);
+		}
+	}
+
 	/**
 	 * Crea un nuevo curso en la base de datos a partir de los datos proporcionados.
 	 *
@@ -143,10 +175,14 @@ public class CursoRestController {
 	 *                             crear y guardar en la base de datos.
 	 * @return Un objeto ResponseEntity con una respuesta HTTP que contiene la lista
 	 *         de cursos creados si la operación tiene éxito, o un mensaje de error
-	 *         si se proporcionan datos inválidos.
+	 *         si la lista está vacía o se proporcionan datos inválidos.
 	 */
 	@PostMapping(value = "cursos", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
 	public ResponseEntity<?> crearVariosCursos(@RequestBody List<Curso> listaCursosParaCrear) {
+		if (listaCursosParaCrear.isEmpty()) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(INVALID_ARGUMENT);
+		}
+
 		try {
 			List<Curso> listaCursoCreados = cursoService.crearVariosCursos(listaCursosParaCrear);
 			return ResponseEntity.ok(listaCursoCreados);
@@ -168,10 +204,12 @@ public class CursoRestController {
 	public ResponseEntity<?> actualizarCurso(@RequestBody Curso cursoParaActualizar) {
 
 		try {
-			Curso cursoActualizado = cursoService.actualizarCurso(cursoParaActualizar);
-			return ResponseEntity.ok(cursoActualizado);
-		} catch (EntityNotFoundException e) {
-			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(CURSO_NOT_FOUND);
+			Optional<Curso> cursoActualizado = cursoService.actualizarCurso(cursoParaActualizar);
+
+			if (cursoActualizado.isEmpty()) {
+				return ResponseEntity.status(HttpStatus.NOT_FOUND).body(CURSO_NOT_FOUND);
+			}
+			return ResponseEntity.ok(cursoActualizado.get());
 		} catch (NumberFormatException e) {
 			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(INVALID_ARGUMENT);
 		}
@@ -190,10 +228,10 @@ public class CursoRestController {
 	public ResponseEntity<?> borrarCurso(@PathVariable("codigo") String codigo) {
 
 		try {
-			cursoService.borrarCurso(codigo);
+			if (!cursoService.borrarCurso(codigo)) {
+				return ResponseEntity.status(HttpStatus.NOT_FOUND).body(CURSO_NOT_FOUND);
+			}
 			return ResponseEntity.noContent().build();
-		} catch (EntityNotFoundException e) {
-			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(CURSO_NOT_FOUND);
 		} catch (NumberFormatException e) {
 			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(INVALID_ARGUMENT);
 		}
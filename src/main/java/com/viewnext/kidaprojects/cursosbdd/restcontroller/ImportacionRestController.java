@@ -0,0 +1,133 @@
+package com.viewnext.kidaprojects.cursosbdd.restcontroller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.viewnext.kidaprojects.cursosbdd.importacion.FicheroDemasiadoGrandeException;
+import com.viewnext.kidaprojects.cursosbdd.importacion.FormatoImportacion;
+import com.viewnext.kidaprojects.cursosbdd.importacion.ImportacionProperties;
+import com.viewnext.kidaprojects.cursosbdd.importacion.ImportadorCursos;
+import com.viewnext.kidaprojects.cursosbdd.importacion.TrabajoImportacion;
+
+/**
+ * Controlador REST de las importaciones masivas de cursos.
+ *
+ * <p>
+ * La clase {@code ImportacionRestController} recibe ficheros CSV o NDJSON en el
+ * cuerpo de la petición y los importa en segundo plano con
+ * {@link ImportadorCursos}. La respuesta llega en cuanto el fichero se ha
+ * recibido, con el identificador del trabajo para consultar su progreso o
+ * cancelarlo.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@RestController
+public class ImportacionRestController {
+
+	@Autowired
+	private ImportadorCursos importadorCursos;
+
+	@Autowired
+	private ImportacionProperties importacionProperties;
+
+	private static final String IMPORTACION_NOT_FOUND = "Importación no encontrada";
+	private static final String IMPORTACION_TERMINADA = "La importación ya ha terminado";
+
+	/**
+	 * Recibe un fichero de cursos y pone en marcha su importación. Los ficheros de
+	 * más de {@code cursos.importacion.tamano-maximo} se rechazan con 413: si la
+	 * cabecera Content-Length ya lo anuncia, sin leer el cuerpo.
+	 *
+	 * @param tipoContenido El tipo de contenido: {@code text/csv} o {@code application/x-ndjson}.
+	 * @param longitud      La longitud declarada del cuerpo, si la hay.
+	 * @param datos         El contenido del fichero.
+	 * @return Un objeto ResponseEntity con el estado 202 y el estado inicial del
+	 *         trabajo, cuya URL se indica en la cabecera Location, o 413 si el
+	 *         fichero es demasiado grande.
+	 * @throws IOException Si no se puede guardar el fichero recibido.
+	 */
+	@PostMapping(value = "cursos/importaciones", produces = MediaType.APPLICATION_JSON_VALUE, consumes = {
+			"text/csv", "application/x-ndjson" })
+	public ResponseEntity<?> importarCursos(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType tipoContenido,
+			@RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long longitud, InputStream datos)
+			throws IOException {
+		Optional<FormatoImportacion> formato = FormatoImportacion.porTipoContenido(tipoContenido);
+		if (formato.isEmpty()) {
+			return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+		}
+		long tamanoMaximo = importacionProperties.getTamanoMaximo().toBytes();
+		if (longitud != null && longitud > tamanoMaximo) {
+			return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+					.body(new FicheroDemasiadoGrandeException(tamanoMaximo).getMessage());
+		}
+
+		TrabajoImportacion trabajo;
+		try {
+			trabajo = importadorCursos.importar(datos, formato.get());
+		} catch (FicheroDemasiadoGrandeException e) {
+			return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(e.getMessage());
+		}
+		return ResponseEntity.accepted()
+				.location(URI.create("/cursos/importaciones/" + trabajo.getId()))
+				.body(trabajo.estado());
+	}
+
+	/**
+	 * Devuelve el progreso de una importación: filas leídas, importadas y con
+	 * error, ritmo de importación y las primeras filas rechazadas.
+	 *
+	 * @param id El identificador del trabajo.
+	 * @return Un objeto ResponseEntity con el estado del trabajo, o un mensaje de
+	 *         error si no existe.
+	 */
+	@GetMapping(value = "cursos/importaciones/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<?> mostrarImportacion(@PathVariable("id") String id) {
+		Optional<TrabajoImportacion> trabajo = importadorCursos.buscar(id);
+
+		if (trabajo.isEmpty()) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(IMPORTACION_NOT_FOUND);
+		}
+		return ResponseEntity.ok(trabajo.get().estado());
+	}
+
+	/**
+	 * Cancela una importación. Los lotes que ya se están escribiendo terminan y el
+	 * resto del fichero se descarta.
+	 *
+	 * @param id El identificador del trabajo.
+	 * @return Un objeto ResponseEntity con el estado 202 y el estado del trabajo,
+	 *         o un mensaje de error si no existe o ya ha terminado.
+	 */
+	@DeleteMapping(value = "cursos/importaciones/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<?> cancelarImportacion(@PathVariable("id") String id) {
+		Optional<TrabajoImportacion> trabajo = importadorCursos.buscar(id);
+
+		if (trabajo.isEmpty()) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(IMPORTACION_NOT_FOUND);
+		}
+		if (!trabajo.get().cancelar()) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(IMPORTACION_TERMINADA);
+		}
+		return ResponseEntity.accepted().body(trabajo.get().estado());
+	}
+}
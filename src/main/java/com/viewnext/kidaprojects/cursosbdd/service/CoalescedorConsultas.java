@@ -0,0 +1,125 @@
+package com.viewnext.kidaprojects.cursosbdd.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalescedor de consultas idénticas concurrentes ("single flight").
+ *
+ * <p>
+ * La clase {@code CoalescedorConsultas} garantiza que, mientras una consulta con
+ * una clave determinada está en ejecución, el resto de hilos que piden la misma
+ * clave no lanzan su propia consulta contra la base de datos sino que esperan y
+ * reciben el mismo resultado. No es una caché: en cuanto la consulta termina, la
+ * siguiente petición vuelve a ejecutarse.
+ * </p>
+ *
+ * <p>
+ * El número de consultas en vuelo está acotado por {@code capacidadMaxima}. Si se
+ * alcanza, las nuevas claves se ejecutan directamente sin coalescer. El
+ * coalescedor publica las métricas {@code cursos.coalescencia.ejecutadas},
+ * {@code cursos.coalescencia.colapsadas}, {@code cursos.coalescencia.sin.coalescer}
+ * y {@code cursos.coalescencia.en.vuelo}, etiquetadas con el nombre de la consulta.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @param <K> El tipo de la clave que identifica a la consulta.
+ * @param <V> El tipo del resultado de la consulta.
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class CoalescedorConsultas<K, V> {
+
+	private final Map<K, CompletableFuture<V>> enVuelo = new ConcurrentHashMap<>();
+	private final int capacidadMaxima;
+
+	private final Counter ejecutadas;
+	private final Counter colapsadas;
+	private final Counter sinCoalescer;
+
+	/**
+	 * Crea un coalescedor y registra sus métricas.
+	 *
+	 * @param nombre          El nombre de la consulta, usado como etiqueta de las métricas.
+	 * @param capacidadMaxima El número máximo aproximado de claves en vuelo a la vez.
+	 * @param registro        El registro de métricas.
+	 */
+	public CoalescedorConsultas(String nombre, int capacidadMaxima, MeterRegistry registro) {
+		this.capacidadMaxima = capacidadMaxima;
+		this.ejecutadas = Counter.builder("cursos.coalescencia.ejecutadas")
+				.description("Consultas ejecutadas contra la base de datos")
+				.tag("consulta", nombre)
+				.register(registro);
+		this.colapsadas = Counter.builder("cursos.coalescencia.colapsadas")
+				.description("Consultas resueltas con el resultado de otra idéntica en vuelo")
+				.tag("consulta", nombre)
+				.register(registro);
+		this.sinCoalescer = Counter.builder("cursos.coalescencia.sin.coalescer")
+				.description("Consultas ejecutadas sin coalescer por estar lleno el mapa de consultas en vuelo")
+				.tag("consulta", nombre)
+				.register(registro);
+		Gauge.builder("cursos.coalescencia.en.vuelo", enVuelo, Map::size)
+				.description("Consultas distintas en vuelo")
+				.tag("consulta", nombre)
+				.register(registro);
+	}
+
+	/**
+	 * Ejecuta la consulta asociada a la clave o, si ya hay una idéntica en vuelo,
+	 * espera su resultado.
+	 *
+	 * @param clave    La clave que identifica a la consulta.
+	 * @param consulta La consulta a ejecutar si no hay ninguna en vuelo para la clave.
+	 * @return El resultado de la consulta, compartido con el resto de hilos que la
+	 *         hayan pedido mientras estaba en vuelo.
+	 */
+	public V ejecutar(K clave, Supplier<V> consulta) {
+		if (enVuelo.size() >= capacidadMaxima) {
+			sinCoalescer.increment();
+			return consulta.get();
+		}
+
+		CompletableFuture<V> propia = new CompletableFuture<>();
+		CompletableFuture<V> existente = enVuelo.putIfAbsent(clave, propia);
+		if (existente != null) {
+			colapsadas.increment();
+			return esperar(existente);
+		}
+
+		ejecutadas.increment();
+		try {
+			V resultado = consulta.get();
+			propia.complete(resultado);
+			return resultado;
+		} catch (RuntimeException | Error e) {
+			propia.completeExceptionally(e);
+			throw e;
+		} finally {
+			enVuelo.remove(clave, propia);
+		}
+	}
+
+	private V esperar(CompletableFuture<V> futuro) {
+		try {
+			return futuro.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException causa) {
+				throw causa;
+			}
+			if (e.getCause() instanceof Error causa) {
+				throw causa;
+			}
+			throw e;
+		}
+	}
+}
@@ -1,7 +1,9 @@
 package com.viewnext.kidaprojects.cursosbdd.service;
 
 import java.util.List;
+import java.util.Optional;
 
+import com.viewnext.kidaprojects.cursosbdd.model.CriterioTop;
 import com.viewnext.kidaprojects.cursosbdd.model.Curso;
 
 /**
@@ -15,6 +17,12 @@ import com.viewnext.kidaprojects.cursosbdd.model.Curso;
  * </p>
  *
  * <p>
+ * Los casos en los que no se encuentra ningún curso no se señalan con
+ * excepciones: las búsquedas de un único curso devuelven un {@code Optional}
+ * vacío y las búsquedas de varios cursos devuelven una lista vacía.
+ * </p>
+ *
+ * <p>
  * El autor de esta interfaz es Víctor Colorado "Kid A".
  * </p>
  *
@@ -35,16 +43,17 @@ public interface CursoService {
      * Busca un curso por su código único.
      *
      * @param codigo El código único del curso que se desea buscar.
-     * @return El objeto {@code Curso} que coincide con el código especificado.
+     * @return Un {@code Optional} con el objeto {@code Curso} que coincide con el
+     *         código especificado, o vacío si no existe.
      */
-    public Curso mostrarCursoByCodigo(String codigo);
+    public Optional<Curso> mostrarCursoByCodigo(String codigo);
 
     /**
      * Busca cursos cuyos nombres contienen una cadena específica.
      *
      * @param nombre La cadena que se utiliza para buscar cursos por nombre.
      * @return Una lista de objetos {@code Curso} que contienen la cadena de nombre
-     *         especificada.
+     *         especificada, vacía si no hay ninguno.
      */
     public List<Curso> mostrarCursosLikeNombre(String nombre);
 
@@ -54,10 +63,23 @@ public interface CursoService {
      * @param precioMinimo El precio mínimo del rango de precio.
      * @param precioMaximo El precio máximo del rango de precio.
      * @return Una lista de objetos {@code Curso} que se encuentran dentro del rango
-     *         de precio especificado.
+     *         de precio especificado, vacía si no hay ninguno.
      */
     public List<Curso> mostrarCursosPorRangoPrecio(int precioMinimo, int precioMaximo);
 
+    /**
+     * Recupera los primeros cursos según un criterio de ordenación, por ejemplo
+     * los más baratos o los de más horas.
+     *
+     * @param criterio   El criterio de ordenación.
+     * @param ascendente {@code true} para los menores valores, {@code false} para
+     *                   los mayores.
+     * @param n          El número máximo de cursos a devolver.
+     * @return Una lista con como mucho {@code n} cursos, ordenada según el
+     *         criterio.
+     */
+    public List<Curso> mostrarTopCursos(CriterioTop criterio, boolean ascendente, int n);
+
     /**
      * Crea un nuevo curso en la aplicación.
      *
@@ -71,7 +93,8 @@ public interface CursoService {
      *
      * @param listaCursosParaCrear Una lista de objetos {@code Curso} que se
      *                             desean crear y guardar.
-     * @return Una lista de los cursos creados y guardados en la aplicación.
+     * @return Una lista de los cursos creados y guardados en la aplicación, vacía
+     *         si no se ha creado ninguno.
      */
     public List<Curso> crearVariosCursos(List<Curso> listaCursosParaCrear);
 
@@ -80,15 +103,18 @@ public interface CursoService {
      *
      * @param cursoParaActualizar El objeto {@code Curso} con la información
      *                            actualizada del curso.
-     * @return El objeto {@code Curso} actualizado.
+     * @return Un {@code Optional} con el objeto {@code Curso} actualizado, o vacío
+     *         si el curso no existe.
      */
-    public Curso actualizarCurso(Curso cursoParaActualizar);
+    public Optional<Curso> actualizarCurso(Curso cursoParaActualizar);
 
     /**
      * Elimina un curso de la aplicación por su código.
      *
      * @param codigo El código del curso que se desea eliminar.
+     * @return {@code true} si el curso existía y se ha eliminado, {@code false}
+     *         si no existe.
      */
-    public void borrarCurso(String codigo);
+    public boolean borrarCurso(String codigo);
 }
 
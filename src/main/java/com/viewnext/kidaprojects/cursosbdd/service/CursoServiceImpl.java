@@ -1,21 +1,29 @@
 package com.viewnext.kidaprojects.cursosbdd.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.viewnext.kidaprojects.cursosbdd.event.CursoBorradoEvent;
+import com.viewnext.kidaprojects.cursosbdd.event.CursosGuardadosEvent;
+import com.viewnext.kidaprojects.cursosbdd.model.CriterioTop;
 import com.viewnext.kidaprojects.cursosbdd.model.Curso;
 import com.viewnext.kidaprojects.cursosbdd.repository.CursoRepository;
 
-import jakarta.persistence.EntityNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 
 
 /**
@@ -29,6 +37,19 @@ import jakarta.persistence.EntityNotFoundException;
  * </p>
  *
  * <p>
+ * Las búsquedas por código, por rango de precio y por prefijo de nombre pasan por
+ * un {@link CoalescedorConsultas}: las peticiones idénticas que llegan mientras
+ * otra igual está en ejecución comparten una única consulta a la base de datos y
+ * su resultado.
+ * </p>
+ *
+ * <p>
+ * Después de cada escritura se publica un {@link CursosGuardadosEvent} o un
+ * {@link CursoBorradoEvent} para que las estructuras en memoria derivadas del
+ * catálogo, como {@link TopCursosEnMemoria}, se mantengan al día.
+ * </p>
+ *
+ * <p>
  * El autor de esta clase es Víctor Colorado "Kid A".
  * </p>
  *
@@ -41,6 +62,44 @@ public class CursoServiceImpl implements CursoService, CursoRepository {
 	@Autowired
 	private CursoRepository cursoRepository;
 	
+	@Autowired
+	private MeterRegistry meterRegistry;
+	
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	
+	@Autowired(required = false)
+	private TopCursosEnMemoria topCursosEnMemoria;
+	
+	@Value("${cursos.coalescencia.max-en-vuelo:1000}")
+	private int maxConsultasEnVuelo;
+	
+	@Value("${cursos.instantanea.habilitada:false}")
+	private boolean registrarBorrados;
+	
+	private CoalescedorConsultas<String, Optional<Curso>> consultasPorCodigo;
+	private CoalescedorConsultas<RangoPrecio, List<Curso>> consultasPorRangoPrecio;
+	private CoalescedorConsultas<String, List<Curso>> consultasPorPrefijo;
+	
+	/**
+	 * Clave de las consultas por rango de precio.
+	 */
+	private record RangoPrecio(int precioMinimo, int precioMaximo) {
+	}
+	
+	/**
+	 * Crea los coalescedores de consultas una vez inyectadas las dependencias.
+	 */
+	@PostConstruct
+	void inicializarCoalescedores() {
+		consultasPorCodigo = new CoalescedorConsultas<>("codigo", maxConsultasEnVuelo, meterRegistry);
+		consultasPorRangoPrecio = new CoalescedorConsultas<>("rango", maxConsultasEnVuelo, meterRegistry);
+		consultasPorPrefijo = new CoalescedorConsultas<>("prefijo", maxConsultasEnVuelo, meterRegistry);
+	}
+	
 	
 	//###########################################################
 	//################### MÉTODOS DE BÚSQUEDA ###################
@@ -69,37 +128,32 @@ public class CursoServiceImpl implements CursoService, CursoRepository {
 
 	
 	/**
-	 * Busca un curso en la base de datos por su código.
+	 * Busca un curso en la base de datos por su código. Las búsquedas concurrentes
+	 * del mismo código comparten una única consulta.
 	 *
 	 * @param id El código del curso que se desea buscar.
 	 * @return Un objeto {@code Optional<Curso>} que contiene el curso si se encuentra, o un valor vacío si no se encuentra.
 	 */
 	@Override
 	public Optional<Curso> findById(String id) {
-	    return cursoRepository.findById(id);
+	    return consultasPorCodigo.ejecutar(id, () -> cursoRepository.findById(id));
 	}
 
 	/**
 	 * Busca un curso en la base de datos por su código y lo devuelve.
 	 *
 	 * @param codigo El código del curso que se desea buscar.
-	 * @return Un objeto {@code Curso} que representa el curso si se encuentra.
-	 * @throws EntityNotFoundException Si no se encuentra ningún curso con el código especificado.
+	 * @return Un objeto {@code Optional<Curso>} que contiene el curso si se encuentra, o un valor vacío si no se encuentra.
 	 */
 	@Override
-	public Curso mostrarCursoByCodigo(String codigo) throws EntityNotFoundException {
-	    Optional<Curso> optionalCurso = cursoRepository.findById(codigo);
-
-	    if (optionalCurso.isPresent()) {
-	        return optionalCurso.get();
-	    } else {
-	        throw new EntityNotFoundException();
-	    }
+	public Optional<Curso> mostrarCursoByCodigo(String codigo) {
+	    return findById(codigo);
 	}
 
 	
 	/**
 	 * Recupera una lista de cursos cuyos precios estén dentro de un rango específico.
+	 * Las búsquedas concurrentes del mismo rango comparten una única consulta.
 	 *
 	 * @param precioMinimo El precio mínimo del rango.
 	 * @param precioMaximo El precio máximo del rango.
@@ -107,7 +161,8 @@ public class CursoServiceImpl implements CursoService, CursoRepository {
 	 */
 	@Override
 	public List<Curso> findByPrecioBetween(int precioMinimo, int precioMaximo) {
-	    return cursoRepository.findByPrecioBetween(precioMinimo, precioMaximo);
+	    return consultasPorRangoPrecio.ejecutar(new RangoPrecio(precioMinimo, precioMaximo),
+	    		() -> cursoRepository.findByPrecioBetween(precioMinimo, precioMaximo));
 	}
 
 	/**
@@ -115,46 +170,154 @@ public class CursoServiceImpl implements CursoService, CursoRepository {
 	 *
 	 * @param precioMinimo El precio mínimo del rango.
 	 * @param precioMaximo El precio máximo del rango.
-	 * @return Una lista de objetos {@code Curso} que representan los cursos dentro del rango de precios especificado.
-	 * @throws EntityNotFoundException Si no se encuentran cursos dentro del rango de precios especificado.
+	 * @return Una lista de objetos {@code Curso} que representan los cursos dentro del rango de precios especificado,
+	 *         vacía si no se encuentra ninguno.
 	 */
 	@Override
-	public List<Curso> mostrarCursosPorRangoPrecio(int precioMinimo, int precioMaximo) throws EntityNotFoundException {
-	    List<Curso> listaCursosPorRangoPrecio = cursoRepository.findByPrecioBetween(precioMinimo, precioMaximo);
-
-	    if (listaCursosPorRangoPrecio.isEmpty()) {
-	        throw new EntityNotFoundException();
-	    }
-
-	    return listaCursosPorRangoPrecio;
+	public List<Curso> mostrarCursosPorRangoPrecio(int precioMinimo, int precioMaximo) {
+	    return findByPrecioBetween(precioMinimo, precioMaximo);
 	}
 
 	/**
 	 * Recupera una lista de cursos cuyos nombres comienzan con el prefijo especificado.
+	 * Las búsquedas concurrentes del mismo prefijo comparten una única consulta.
 	 *
 	 * @param nombrePrefix El prefijo de nombre que se utilizará para buscar cursos.
 	 * @return Una lista de objetos {@code Curso} que representan los cursos cuyos nombres comienzan con el prefijo especificado.
 	 */
 	@Override
 	public List<Curso> findCursosByNombreStartingWith(String nombrePrefix) {
-	    return cursoRepository.findCursosByNombreStartingWith(nombrePrefix);
+	    return consultasPorPrefijo.ejecutar(nombrePrefix,
+	    		() -> cursoRepository.findCursosByNombreStartingWith(nombrePrefix));
+	}
+
+	/**
+	 * Busca cursos cuyos nombres encajan con un patrón de {@code LIKE} ya escapado.
+	 *
+	 * @param patron El patrón, con {@code !} como carácter de escape.
+	 * @return Una lista de objetos {@code Curso} cuyos nombres coinciden con el patrón.
+	 */
+	@Override
+	public List<Curso> findByNombreLike(String patron) {
+		return cursoRepository.findByNombreLike(patron);
 	}
 
 	/**
 	 * Busca cursos cuyos nombres comienzan con el nombre proporcionado y devuelve una lista de los cursos que coinciden.
 	 *
 	 * @param nombre El nombre o prefijo de los cursos que se desea buscar.
-	 * @return Una lista de objetos {@code Curso} que representan los cursos cuyos nombres comienzan con el nombre especificado.
-	 * @throws EntityNotFoundException Si no se encuentran cursos con el nombre especificado.
+	 * @return Una lista de objetos {@code Curso} que representan los cursos cuyos nombres comienzan con el nombre especificado,
+	 *         vacía si no se encuentra ninguno.
+	 */
+	@Override
+	public List<Curso> mostrarCursosLikeNombre(String nombre) {
+	    return findCursosByNombreStartingWith(nombre);
+	}
+
+
+	/**
+	 * Recupera una página de cursos sin calcular el total de resultados.
+	 *
+	 * @param pageable La página, con su tamaño y su ordenación.
+	 * @return Una lista con los cursos de la página solicitada.
+	 */
+	@Override
+	public List<Curso> findAllBy(Pageable pageable) {
+		return cursoRepository.findAllBy(pageable);
+	}
+
+	/**
+	 * Recupera los cursos con menor precio por hora.
+	 *
+	 * @param pageable La página que limita el número de resultados.
+	 * @return Una lista de cursos ordenada de menor a mayor precio por hora.
+	 */
+	@Override
+	public List<Curso> findByPrecioPorHoraAsc(Pageable pageable) {
+		return cursoRepository.findByPrecioPorHoraAsc(pageable);
+	}
+
+	/**
+	 * Recupera los cursos con mayor precio por hora.
+	 *
+	 * @param pageable La página que limita el número de resultados.
+	 * @return Una lista de cursos ordenada de mayor a menor precio por hora.
+	 */
+	@Override
+	public List<Curso> findByPrecioPorHoraDesc(Pageable pageable) {
+		return cursoRepository.findByPrecioPorHoraDesc(pageable);
+	}
+
+	/**
+	 * Recupera todos los cursos en el orden indicado.
+	 *
+	 * @param sort La ordenación a aplicar.
+	 * @return Una lista con todos los cursos ordenados.
+	 */
+	@Override
+	public List<Curso> findAll(Sort sort) {
+		return cursoRepository.findAll(sort);
+	}
+
+	/**
+	 * Recupera una página de cursos junto con el número total de cursos.
+	 *
+	 * @param pageable La página, con su tamaño y su ordenación.
+	 * @return La página de cursos solicitada.
 	 */
 	@Override
-	public List<Curso> mostrarCursosLikeNombre(String nombre) throws EntityNotFoundException {
-	    List<Curso> listaCursosLikeNombre = cursoRepository.findCursosByNombreStartingWith(nombre);
+	public Page<Curso> findAll(Pageable pageable) {
+		return cursoRepository.findAll(pageable);
+	}
 
-	    if (listaCursosLikeNombre.isEmpty()) {
-	        throw new EntityNotFoundException();
-	    }
-	    return listaCursosLikeNombre;
+	/**
+	 * Recupera los {@code n} primeros cursos según un criterio de ordenación. Si la
+	 * clasificación en memoria está activada se sirven desde ella; si no, se
+	 * resuelven con una consulta {@code ORDER BY ... LIMIT}.
+	 *
+	 * @param criterio   El criterio de ordenación.
+	 * @param ascendente {@code true} para los menores valores, {@code false} para los mayores.
+	 * @param n          El número máximo de cursos a devolver.
+	 * @return Una lista con como mucho {@code n} cursos, ordenada según el criterio.
+	 */
+	@Override
+	public List<Curso> mostrarTopCursos(CriterioTop criterio, boolean ascendente, int n) {
+		if (topCursosEnMemoria != null) {
+			return topCursosEnMemoria.top(criterio, ascendente, n);
+		}
+		return cursoRepository.findTop(criterio, ascendente, n);
+	}
+
+	/**
+	 * Recupera los cursos dados de alta o modificados a partir del momento indicado.
+	 *
+	 * @param desde El momento, en el reloj de la base de datos, a partir del cual se buscan cambios.
+	 * @return Una lista con los cursos modificados desde ese momento.
+	 */
+	@Override
+	public List<Curso> findModificadosDesde(LocalDateTime desde) {
+		return cursoRepository.findModificadosDesde(desde);
+	}
+
+	/**
+	 * Recupera los códigos de los cursos borrados a partir del momento indicado.
+	 *
+	 * @param desde El momento, en el reloj de la base de datos, a partir del cual se buscan borrados.
+	 * @return Una lista con los códigos borrados desde ese momento.
+	 */
+	@Override
+	public List<String> findBorradosDesde(LocalDateTime desde) {
+		return cursoRepository.findBorradosDesde(desde);
+	}
+
+	/**
+	 * Devuelve la hora actual de la base de datos.
+	 *
+	 * @return La hora actual según la base de datos.
+	 */
+	@Override
+	public LocalDateTime findMarcaTiempo() {
+		return cursoRepository.findMarcaTiempo();
 	}
 
 
@@ -170,7 +333,9 @@ public class CursoServiceImpl implements CursoService, CursoRepository {
 	 */
 	@Override
 	public <S extends Curso> S save(S entity) {
-	    return cursoRepository.save(entity);
+	    S cursoGuardado = cursoRepository.save(entity);
+	    eventPublisher.publishEvent(new CursosGuardadosEvent(List.of(cursoGuardado)));
+	    return cursoGuardado;
 	}
 
 	/**
@@ -181,7 +346,7 @@ public class CursoServiceImpl implements CursoService, CursoRepository {
 	 */
 	@Override
 	public Curso crearCurso(Curso cursoParaCrear) {
-	    return cursoRepository.save(cursoParaCrear);
+	    return save(cursoParaCrear);
 	}
 	
 	
@@ -193,24 +358,33 @@ public class CursoServiceImpl implements CursoService, CursoRepository {
 	 */
 	@Override
 	public <S extends Curso> List<S> saveAll(Iterable<S> entities) {
-	    return cursoRepository.saveAll(entities);
+	    List<S> cursosGuardados = cursoRepository.saveAll(entities);
+	    eventPublisher.publishEvent(new CursosGuardadosEvent(List.copyOf(cursosGuardados)));
+	    return cursosGuardados;
 	}
 
 	/**
 	 * Crea varios cursos en la base de datos a partir de la lista proporcionada.
 	 *
 	 * @param listaCursosParaCrear La lista de objetos {@code Curso} que se desea crear y guardar en la base de datos.
-	 * @return La lista de objetos {@code Curso} creados y guardados en la base de datos.
-	 * @throws EntityNotFoundException Si no se crean cursos en la base de datos a partir de la lista proporcionada.
+	 * @return La lista de objetos {@code Curso} creados y guardados en la base de datos, vacía si no se ha creado ninguno.
 	 */
 	@Override
-	public List<Curso> crearVariosCursos(List<Curso> listaCursosParaCrear) throws EntityNotFoundException {
-	    List<Curso> listaCursosCreados = cursoRepository.saveAll(listaCursosParaCrear);
+	public List<Curso> crearVariosCursos(List<Curso> listaCursosParaCrear) {
+	    guardarEnLote(listaCursosParaCrear);
+	    return listaCursosParaCrear;
+	}
 
-	    if (listaCursosCreados.isEmpty()) {
-	        throw new EntityNotFoundException();
-	    }
-	    return listaCursosCreados;
+	/**
+	 * Guarda una lista de cursos con una única sentencia por lotes, sin consultar
+	 * antes si cada curso existe.
+	 *
+	 * @param cursos La lista de objetos {@code Curso} que se desea guardar en la base de datos.
+	 */
+	@Override
+	public void guardarEnLote(List<Curso> cursos) {
+	    cursoRepository.guardarEnLote(cursos);
+	    eventPublisher.publishEvent(new CursosGuardadosEvent(List.copyOf(cursos)));
 	}
 
 	
@@ -231,14 +405,45 @@ public class CursoServiceImpl implements CursoService, CursoRepository {
 	}
 	
 	/**
-	 * Elimina un curso de la base de datos por su código.
+	 * Elimina un curso de la base de datos por su código. Con las instantáneas
+	 * habilitadas deja además constancia del borrado, en la misma transacción salvo
+	 * con almacenamiento fragmentado, donde el repositorio escribe en el fragmento
+	 * fuera de la transacción de JPA. El evento se publica después de confirmar.
 	 *
 	 * @param codigo El código del curso que se desea eliminar.
 	 */
 	@Override
 	public void deleteById(String codigo) {
-		cursoRepository.deleteById(codigo);
-		
+		if (registrarBorrados) {
+			transactionTemplate.executeWithoutResult(estado -> {
+				cursoRepository.deleteById(codigo);
+				cursoRepository.registrarBorrado(codigo);
+			});
+		} else {
+			cursoRepository.deleteById(codigo);
+		}
+		eventPublisher.publishEvent(new CursoBorradoEvent(codigo));
+	}
+
+	/**
+	 * Deja constancia del borrado de un curso.
+	 *
+	 * @param codigo El código del curso borrado.
+	 */
+	@Override
+	public void registrarBorrado(String codigo) {
+		cursoRepository.registrarBorrado(codigo);
+	}
+
+	/**
+	 * Elimina las constancias de borrado anteriores al momento indicado.
+	 *
+	 * @param antes El momento, en el reloj de la base de datos, antes del cual se eliminan.
+	 * @return El número de constancias eliminadas.
+	 */
+	@Override
+	public int purgarBorrados(LocalDateTime antes) {
+		return cursoRepository.purgarBorrados(antes);
 	}
 		
 
@@ -247,16 +452,16 @@ public class CursoServiceImpl implements CursoService, CursoRepository {
 	 * Borra un curso de la base de datos por su código, verificando previamente si existe.
 	 *
 	 * @param codigo El código del curso que se desea borrar.
-	 * @throws EntityNotFoundException Si no se encuentra ningún curso con el código especificado.
+	 * @return {@code true} si el curso existía y se ha borrado, {@code false} si no se encuentra ningún curso con el código especificado.
 	 */
 	@Override
-	public void borrarCurso(String codigo) throws EntityNotFoundException{
+	public boolean borrarCurso(String codigo) {
 		if(!existsById(codigo)) {
-			throw new EntityNotFoundException();
+			return false;
 		}
 		
 		deleteById(codigo);
-		
+		return true;
 	}
 	
 	
@@ -269,22 +474,21 @@ public class CursoServiceImpl implements CursoService, CursoRepository {
 	 * Actualiza la información de un curso en la base de datos.
 	 *
 	 * @param cursoParaActualizar El objeto {@code Curso} con la información actualizada del curso.
-	 * @return El objeto {@code Curso} actualizado.
-	 * @throws EntityNotFoundException Si no se encuentra ningún curso con el código especificado.
+	 * @return Un objeto {@code Optional<Curso>} con el curso actualizado, o un valor vacío si no se encuentra ningún curso con el código especificado.
 	 */
 	@Override
-	public Curso actualizarCurso(Curso cursoParaActualizar) throws EntityNotFoundException{
+	public Optional<Curso> actualizarCurso(Curso cursoParaActualizar) {
 		Optional<Curso> optionalCurso = cursoRepository.findById(cursoParaActualizar.getCodigo());
 		
 		if(optionalCurso.isEmpty()) {
-			throw new EntityNotFoundException();
+			return Optional.empty();
 		}
 		
 		Curso cursoActualizado;
 		
-		cursoActualizado = cursoRepository.save(cursoParaActualizar);
+		cursoActualizado = save(cursoParaActualizar);
 		
-		return cursoActualizado;
+		return Optional.of(cursoActualizado);
 		
 	}
 	
@@ -409,18 +613,6 @@ public class CursoServiceImpl implements CursoService, CursoRepository {
 		
 	}
 
-	@Override
-	public List<Curso> findAll(Sort sort) {
-		// TODO Auto-generated method stub
-		return null;
-	}
-
-	@Override
-	public Page<Curso> findAll(Pageable pageable) {
-		// TODO Auto-generated method stub
-		return null;
-	}
-
 	@Override
 	public <S extends Curso> Optional<S> findOne(Example<S> example) {
 		// TODO Auto-generated method stub
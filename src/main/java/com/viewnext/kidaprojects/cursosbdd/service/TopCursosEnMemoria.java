@@ -0,0 +1,292 @@
+package com.viewnext.kidaprojects.cursosbdd.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.viewnext.kidaprojects.cursosbdd.event.CursoBorradoEvent;
+import com.viewnext.kidaprojects.cursosbdd.event.CursosGuardadosEvent;
+import com.viewnext.kidaprojects.cursosbdd.model.CriterioTop;
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+import com.viewnext.kidaprojects.cursosbdd.repository.CursoRepository;
+
+/**
+ * Clasificaciones en memoria de los N primeros cursos por cada criterio.
+ *
+ * <p>
+ * La clase {@code TopCursosEnMemoria} mantiene, para cada criterio y sentido de
+ * ordenación, un montículo acotado con como mucho {@code capacidad} cursos. Se
+ * carga la primera vez que se consulta con una consulta {@code ORDER BY ... LIMIT}
+ * y a partir de ahí se actualiza con los eventos de escritura del servicio, sin
+ * volver a la base de datos.
+ * </p>
+ *
+ * <p>
+ * Cada montículo contiene siempre exactamente los mejores {@code m} cursos del
+ * catálogo, siendo {@code m} su tamaño actual. Un alta que mejora al peor curso
+ * guardado entra en el montículo; un borrado, o una actualización que empeora a
+ * un curso por debajo del peor guardado, lo sacan y el montículo encoge. Cuando
+ * se piden más cursos de los que contiene, se recarga desde la base de datos. Si
+ * durante la recarga llega alguna escritura, el resultado de la consulta se
+ * devuelve pero no se instala, para no perder esa escritura.
+ * </p>
+ *
+ * <p>
+ * Las clasificaciones cargadas se pueden exportar e instalar de nuevo para
+ * guardarlas en una instantánea en disco y no tener que consultarlas al arrancar.
+ * </p>
+ *
+ * <p>
+ * Se activa con la propiedad {@code cursos.top.memoria.habilitada=true}.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@Component
+@ConditionalOnProperty(prefix = "cursos.top.memoria", name = "habilitada", havingValue = "true")
+public class TopCursosEnMemoria {
+
+	@Autowired
+	private CursoRepository cursoRepository;
+
+	private final int capacidad;
+	private final Map<CriterioTop, Clasificacion> ascendentes = new HashMap<>();
+	private final Map<CriterioTop, Clasificacion> descendentes = new HashMap<>();
+
+	public TopCursosEnMemoria(@Value("${cursos.top.memoria.capacidad:100}") int capacidad) {
+		this.capacidad = capacidad;
+		for (CriterioTop criterio : CriterioTop.values()) {
+			ascendentes.put(criterio, new Clasificacion(criterio, criterio.orden(true), capacidad));
+			descendentes.put(criterio, new Clasificacion(criterio, criterio.orden(false), capacidad));
+		}
+	}
+
+	/**
+	 * Devuelve los {@code n} primeros cursos según el criterio indicado, desde
+	 * memoria si es posible o recargando la clasificación desde la base de datos.
+	 *
+	 * @param criterio   El criterio de ordenación.
+	 * @param ascendente {@code true} para los menores valores, {@code false} para los mayores.
+	 * @param n          El número máximo de cursos a devolver.
+	 * @return Una lista con como mucho {@code n} cursos, ordenada según el criterio.
+	 */
+	public List<Curso> top(CriterioTop criterio, boolean ascendente, int n) {
+		if (n > capacidad) {
+			return cursoRepository.findTop(criterio, ascendente, n);
+		}
+
+		Clasificacion clasificacion = (ascendente ? ascendentes : descendentes).get(criterio);
+		List<Curso> enMemoria = clasificacion.primeros(n);
+		if (enMemoria != null) {
+			return enMemoria;
+		}
+
+		long version = clasificacion.getVersion();
+		List<Curso> cargados = cursoRepository.findTop(criterio, ascendente, capacidad);
+		clasificacion.cargar(cargados, version);
+		return cargados.subList(0, Math.min(n, cargados.size()));
+	}
+
+	/**
+	 * Contenido de una clasificación cargada, para guardarlo en una instantánea.
+	 *
+	 * @param criterio         El criterio de ordenación.
+	 * @param ascendente       El sentido de la ordenación.
+	 * @param catalogoCompleto {@code true} si la clasificación contiene todos los cursos del catálogo.
+	 * @param cursos           Los cursos de la clasificación, ya ordenados.
+	 */
+	public record Contenido(CriterioTop criterio, boolean ascendente, boolean catalogoCompleto, List<Curso> cursos) {
+	}
+
+	/**
+	 * Devuelve el contenido de las clasificaciones que están cargadas.
+	 *
+	 * @return Una lista con el contenido de cada clasificación cargada.
+	 */
+	public List<Contenido> exportar() {
+		List<Contenido> contenidos = new ArrayList<>();
+		for (CriterioTop criterio : CriterioTop.values()) {
+			Contenido ascendente = ascendentes.get(criterio).contenido(true);
+			Contenido descendente = descendentes.get(criterio).contenido(false);
+			if (ascendente != null) {
+				contenidos.add(ascendente);
+			}
+			if (descendente != null) {
+				contenidos.add(descendente);
+			}
+		}
+		return contenidos;
+	}
+
+	/**
+	 * Carga las clasificaciones indicadas sin consultar la base de datos. Las que
+	 * ya estaban cargadas se dejan como están.
+	 *
+	 * @param contenidos El contenido de las clasificaciones, por ejemplo leído de una instantánea.
+	 */
+	public void instalar(List<Contenido> contenidos) {
+		for (Contenido contenido : contenidos) {
+			(contenido.ascendente() ? ascendentes : descendentes).get(contenido.criterio())
+					.instalar(contenido.cursos(), contenido.catalogoCompleto());
+		}
+	}
+
+	@EventListener
+	public void alGuardar(CursosGuardadosEvent evento) {
+		for (Curso curso : evento.cursos()) {
+			Curso copia = new Curso(curso.getCodigo(), curso.getNombre(), curso.getNumeroHoras(), curso.getPrecio());
+			ascendentes.values().forEach(clasificacion -> clasificacion.guardar(copia));
+			descendentes.values().forEach(clasificacion -> clasificacion.guardar(copia));
+		}
+	}
+
+	@EventListener
+	public void alBorrar(CursoBorradoEvent evento) {
+		ascendentes.values().forEach(clasificacion -> clasificacion.borrar(evento.codigo()));
+		descendentes.values().forEach(clasificacion -> clasificacion.borrar(evento.codigo()));
+	}
+
+	/**
+	 * Montículo acotado con los mejores cursos según un orden.
+	 */
+	static final class Clasificacion {
+
+		private final CriterioTop criterio;
+		private final Comparator<Curso> orden;
+		private final int capacidad;
+
+		/** Montículo con el peor curso guardado en la cabeza. */
+		private final PriorityQueue<Curso> monticulo;
+		private final Map<String, Curso> miembros = new HashMap<>();
+
+		private boolean cargada;
+		private boolean catalogoCompleto;
+		private long version;
+		private List<Curso> ordenados;
+
+		Clasificacion(CriterioTop criterio, Comparator<Curso> orden, int capacidad) {
+			this.criterio = criterio;
+			this.orden = orden;
+			this.capacidad = capacidad;
+			this.monticulo = new PriorityQueue<>(capacidad + 1, orden.reversed());
+		}
+
+		synchronized long getVersion() {
+			return version;
+		}
+
+		/**
+		 * Devuelve los {@code n} primeros cursos, o {@code null} si la clasificación
+		 * no está cargada o no contiene suficientes cursos.
+		 */
+		synchronized List<Curso> primeros(int n) {
+			if (!cargada || (n > monticulo.size() && !catalogoCompleto)) {
+				return null;
+			}
+			if (ordenados == null) {
+				List<Curso> lista = new ArrayList<>(monticulo);
+				lista.sort(orden);
+				ordenados = Collections.unmodifiableList(lista);
+			}
+			return ordenados.subList(0, Math.min(n, ordenados.size()));
+		}
+
+		/**
+		 * Sustituye el contenido por el resultado de una consulta a la base de datos,
+		 * salvo que haya habido escrituras desde que se leyó {@code versionLeida}.
+		 */
+		synchronized void cargar(List<Curso> cursos, long versionLeida) {
+			if (versionLeida != version) {
+				return;
+			}
+			llenar(cursos, cursos.size() < capacidad);
+		}
+
+		/**
+		 * Carga un contenido guardado si la clasificación no está cargada. Si la
+		 * capacidad ha bajado desde que se guardó, solo se conservan los primeros.
+		 */
+		synchronized void instalar(List<Curso> cursos, boolean completo) {
+			if (cargada) {
+				return;
+			}
+			llenar(cursos, completo && cursos.size() <= capacidad);
+		}
+
+		synchronized Contenido contenido(boolean ascendente) {
+			if (!cargada) {
+				return null;
+			}
+			List<Curso> lista = new ArrayList<>(monticulo);
+			lista.sort(orden);
+			return new Contenido(criterio, ascendente, catalogoCompleto, lista);
+		}
+
+		private void llenar(List<Curso> cursos, boolean completo) {
+			monticulo.clear();
+			miembros.clear();
+			for (Curso curso : cursos.subList(0, Math.min(capacidad, cursos.size()))) {
+				Curso copia = new Curso(curso.getCodigo(), curso.getNombre(), curso.getNumeroHoras(), curso.getPrecio());
+				monticulo.add(copia);
+				miembros.put(copia.getCodigo(), copia);
+			}
+			cargada = true;
+			catalogoCompleto = completo;
+			ordenados = null;
+		}
+
+		synchronized void guardar(Curso curso) {
+			version++;
+			if (!cargada) {
+				return;
+			}
+			ordenados = null;
+
+			Curso anterior = miembros.remove(curso.getCodigo());
+			if (anterior != null) {
+				monticulo.remove(anterior);
+			}
+			if (!criterio.admite(curso)) {
+				return;
+			}
+
+			if (catalogoCompleto || (!monticulo.isEmpty() && orden.compare(curso, monticulo.peek()) < 0)) {
+				monticulo.add(curso);
+				miembros.put(curso.getCodigo(), curso);
+				if (monticulo.size() > capacidad) {
+					miembros.remove(monticulo.poll().getCodigo());
+					catalogoCompleto = false;
+				}
+			} else if (monticulo.isEmpty()) {
+				cargada = false;
+			}
+		}
+
+		synchronized void borrar(String codigo) {
+			version++;
+			if (!cargada) {
+				return;
+			}
+			Curso anterior = miembros.remove(codigo);
+			if (anterior != null) {
+				monticulo.remove(anterior);
+				ordenados = null;
+			}
+		}
+	}
+}
@@ -0,0 +1,608 @@
+package com.viewnext.kidaprojects.cursosbdd.sharding;
+
+import java.time.LocalDateTime;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+import com.viewnext.kidaprojects.cursosbdd.repository.CursoRepository;
+import com.viewnext.kidaprojects.cursosbdd.sql.MedicionSql;
+
+/**
+ * Repositorio de cursos repartido entre varias bases de datos.
+ *
+ * <p>
+ * La clase {@code CursoRepositoryFragmentado} implementa {@code CursoRepository}
+ * con JDBC sobre varios {@code DataSource}, uno por fragmento. Cada curso vive en
+ * un único fragmento, elegido a partir del hash de su código, de modo que las
+ * operaciones por código (buscar, guardar, borrar) van a un solo fragmento.
+ * </p>
+ *
+ * <p>
+ * Los listados, las búsquedas por rango de precio y por prefijo de nombre se
+ * lanzan en paralelo contra todos los fragmentos y se juntan los resultados. En
+ * las consultas ordenadas y limitadas cada fragmento devuelve sus primeros
+ * {@code offset + tamaño} cursos ya ordenados y se mezclan con una mezcla de
+ * k vías, así que {@code findTop} sigue leyendo como mucho {@code n} filas por
+ * fragmento. En MySQL y MariaDB los fragmentos ordenan los textos con una
+ * intercalación binaria y la mezcla los compara por punto de código, de modo que
+ * los dos órdenes coinciden aunque la intercalación de las columnas no distinga
+ * mayúsculas ni acentos.
+ * </p>
+ *
+ * <p>
+ * Guardar un curso es una única sentencia {@code INSERT ... ON DUPLICATE KEY
+ * UPDATE}, así que dos altas simultáneas del mismo código no chocan. Las
+ * escrituras de varios cursos no son atómicas entre fragmentos: cada fragmento
+ * aplica su parte por separado. Los métodos basados en
+ * {@code Example} y las referencias perezosas de JPA no tienen sentido aquí y
+ * lanzan {@code UnsupportedOperationException}.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class CursoRepositoryFragmentado implements CursoRepository {
+
+	private static final String COLUMNAS = "SELECT codigo, nombre, numero_horas, precio FROM cursos";
+	private static final String GUARDAR = "INSERT INTO cursos (codigo, nombre, numero_horas, precio) VALUES (:codigo, :nombre, :numeroHoras, :precio)"
+			+ " ON DUPLICATE KEY UPDATE nombre = VALUES(nombre), numero_horas = VALUES(numero_horas), precio = VALUES(precio)";
+	private static final String REGISTRAR_BORRADO = "INSERT INTO cursos_borrados (codigo, borrado) VALUES (:codigo, CURRENT_TIMESTAMP(6))"
+			+ " ON DUPLICATE KEY UPDATE borrado = CURRENT_TIMESTAMP(6)";
+
+	private static final Map<String, String> COLUMNA_POR_PROPIEDAD = Map.of(
+			"codigo", "codigo",
+			"nombre", "nombre",
+			"numeroHoras", "numero_horas",
+			"precio", "precio");
+
+	private static final Set<String> COLUMNAS_TEXTO = Set.of("codigo", "nombre");
+
+	private static final RowMapper<Curso> MAPEADOR = (fila, numero) -> new Curso(fila.getString("codigo"),
+			fila.getString("nombre"), fila.getInt("numero_horas"), fila.getInt("precio"));
+
+	private final List<NamedParameterJdbcTemplate> fragmentos;
+	private final ExecutorService ejecutor;
+	private final String intercalacion;
+	private final Comparator<String> ordenTexto;
+	private final Map<String, Comparator<Curso>> ordenPorPropiedad;
+
+	/**
+	 * Crea el repositorio sobre los fragmentos indicados.
+	 *
+	 * @param fuentes  Las bases de datos, en el orden que determina el reparto.
+	 * @param ejecutor El ejecutor con el que se consultan los fragmentos en paralelo.
+	 */
+	public CursoRepositoryFragmentado(List<DataSource> fuentes, ExecutorService ejecutor) {
+		if (fuentes.isEmpty()) {
+			throw new IllegalArgumentException("Se necesita al menos un fragmento");
+		}
+		this.fragmentos = fuentes.stream().map(NamedParameterJdbcTemplate::new).toList();
+		this.ejecutor = ejecutor;
+
+		// La mezcla tiene que comparar los textos igual que los ordena cada fragmento.
+		this.intercalacion = intercalacionBinaria(fuentes.get(0));
+		this.ordenTexto = intercalacion.isEmpty() ? Comparator.naturalOrder()
+				: CursoRepositoryFragmentado::compararPuntosCodigo;
+		this.ordenPorPropiedad = Map.of(
+				"codigo", Comparator.comparing(Curso::getCodigo, ordenTexto),
+				"nombre", Comparator.comparing(Curso::getNombre, Comparator.nullsFirst(ordenTexto)),
+				"numeroHoras", Comparator.comparingInt(Curso::getNumeroHoras),
+				"precio", Comparator.comparingInt(Curso::getPrecio));
+	}
+
+	/**
+	 * Devuelve la cláusula {@code COLLATE} que ordena los textos por punto de
+	 * código en MySQL y MariaDB, cuya intercalación por defecto no distingue
+	 * mayúsculas ni acentos. En el resto de bases de datos (H2 en las pruebas) los
+	 * textos ya se ordenan como {@code String.compareTo} y no hace falta.
+	 */
+	private static String intercalacionBinaria(DataSource fuente) {
+		String producto;
+		try {
+			producto = JdbcUtils.extractDatabaseMetaData(fuente, DatabaseMetaData::getDatabaseProductName);
+		} catch (MetaDataAccessException e) {
+			throw new IllegalStateException("No se puede identificar la base de datos de los fragmentos", e);
+		}
+		return switch (producto) {
+		case "MySQL" -> " COLLATE utf8mb4_0900_bin";
+		case "MariaDB" -> " COLLATE utf8mb4_nopad_bin";
+		default -> "";
+		};
+	}
+
+	/**
+	 * Compara dos textos por punto de código, que es el orden de sus bytes UTF-8 y
+	 * el de las intercalaciones binarias sin relleno. {@code String.compareTo}
+	 * compara unidades UTF-16 y difiere para los caracteres fuera del plano básico.
+	 */
+	static int compararPuntosCodigo(String a, String b) {
+		return Arrays.compare(a.codePoints().toArray(), b.codePoints().toArray());
+	}
+
+	/**
+	 * Devuelve el fragmento en el que se guarda el curso con el código indicado.
+	 *
+	 * @param codigo El código del curso.
+	 * @return El índice del fragmento, entre 0 y el número de fragmentos menos uno.
+	 */
+	public int fragmentoDe(String codigo) {
+		int hash = codigo.hashCode() * 0x9E3779B9;
+		return Math.floorMod(hash ^ (hash >>> 16), fragmentos.size());
+	}
+
+	public int getNumeroFragmentos() {
+		return fragmentos.size();
+	}
+
+	// OPERACIONES POR CÓDIGO: UN SOLO FRAGMENTO
+
+	@Override
+	public Optional<Curso> findById(String id) {
+		List<Curso> cursos = fragmentos.get(fragmentoDe(id)).query(COLUMNAS + " WHERE codigo = :codigo",
+				new MapSqlParameterSource("codigo", id), MAPEADOR);
+		return cursos.stream().findFirst();
+	}
+
+	@Override
+	public boolean existsById(String id) {
+		return findById(id).isPresent();
+	}
+
+	@Override
+	public <S extends Curso> S save(S entity) {
+		fragmentos.get(fragmentoDe(entity.getCodigo())).update(GUARDAR, parametros(entity));
+		return entity;
+	}
+
+	@Override
+	public void deleteById(String id) {
+		fragmentos.get(fragmentoDe(id)).update("DELETE FROM cursos WHERE codigo = :codigo",
+				new MapSqlParameterSource("codigo", id));
+	}
+
+	@Override
+	public void delete(Curso entity) {
+		deleteById(entity.getCodigo());
+	}
+
+	// OPERACIONES SOBRE VARIOS CÓDIGOS: CADA FRAGMENTO SU PARTE
+
+	@Override
+	public <S extends Curso> List<S> saveAll(Iterable<S> entities) {
+		List<S> guardados = new ArrayList<>();
+		entities.forEach(guardados::add);
+		Map<Integer, List<S>> porFragmento = agruparPorFragmento(guardados, Curso::getCodigo);
+
+		enParalelo(porFragmento, (indice, cursos) -> fragmentos.get(indice).batchUpdate(GUARDAR,
+				cursos.stream().map(this::parametros).toArray(SqlParameterSource[]::new)));
+		return guardados;
+	}
+
+	@Override
+	public void guardarEnLote(List<Curso> cursos) {
+		saveAll(cursos);
+	}
+
+	@Override
+	public List<Curso> findAllById(Iterable<String> ids) {
+		List<String> codigos = new ArrayList<>();
+		ids.forEach(codigos::add);
+		Map<Integer, List<String>> porFragmento = agruparPorFragmento(codigos, Function.identity());
+
+		List<Curso> encontrados = new ArrayList<>();
+		enParalelo(porFragmento, (indice, codigosFragmento) -> fragmentos.get(indice).query(
+				COLUMNAS + " WHERE codigo IN (:codigos)", new MapSqlParameterSource("codigos", codigosFragmento),
+				MAPEADOR)).values().forEach(encontrados::addAll);
+		return encontrados;
+	}
+
+	@Override
+	public void deleteAllById(Iterable<? extends String> ids) {
+		List<String> codigos = new ArrayList<>();
+		ids.forEach(codigos::add);
+		enParalelo(agruparPorFragmento(codigos, Function.identity()), (indice, codigosFragmento) -> fragmentos
+				.get(indice).update("DELETE FROM cursos WHERE codigo IN (:codigos)",
+						new MapSqlParameterSource("codigos", codigosFragmento)));
+	}
+
+	@Override
+	public void deleteAll(Iterable<? extends Curso> entities) {
+		List<String> codigos = new ArrayList<>();
+		entities.forEach(curso -> codigos.add(curso.getCodigo()));
+		deleteAllById(codigos);
+	}
+
+	@Override
+	public void deleteAll() {
+		difundir(fragmento -> fragmento.update("DELETE FROM cursos", new MapSqlParameterSource()));
+	}
+
+	// CONSULTAS SOBRE TODOS LOS FRAGMENTOS
+
+	@Override
+	public List<Curso> findAll() {
+		return concatenar(difundir(fragmento -> fragmento.query(COLUMNAS, MAPEADOR)));
+	}
+
+	@Override
+	public long count() {
+		return difundir(fragmento -> fragmento.queryForObject("SELECT COUNT(*) FROM cursos",
+				new MapSqlParameterSource(), Long.class)).stream().mapToLong(Long::longValue).sum();
+	}
+
+	@Override
+	public List<Curso> findByPrecioBetween(int precioMinimo, int precioMaximo) {
+		MapSqlParameterSource parametros = new MapSqlParameterSource("precioMinimo", precioMinimo)
+				.addValue("precioMaximo", precioMaximo);
+		return concatenar(difundir(fragmento -> fragmento.query(
+				COLUMNAS + " WHERE precio >= :precioMinimo AND precio <= :precioMaximo", parametros, MAPEADOR)));
+	}
+
+	@Override
+	public List<Curso> findByNombreLike(String patron) {
+		MapSqlParameterSource parametros = new MapSqlParameterSource("patron", patron);
+		return concatenar(difundir(fragmento -> fragmento.query(
+				COLUMNAS + " WHERE nombre LIKE :patron ESCAPE '!'", parametros, MAPEADOR)));
+	}
+
+	@Override
+	public List<Curso> findAllBy(Pageable pageable) {
+		return consultarOrdenado(pageable.getSort(), pageable);
+	}
+
+	@Override
+	public List<Curso> findAll(Sort sort) {
+		return consultarOrdenado(sort, Pageable.unpaged());
+	}
+
+	@Override
+	public Page<Curso> findAll(Pageable pageable) {
+		List<Curso> contenido = findAllBy(pageable);
+		return pageable.isPaged() ? new PageImpl<>(contenido, pageable, count()) : new PageImpl<>(contenido);
+	}
+
+	@Override
+	public List<Curso> findByPrecioPorHoraAsc(Pageable pageable) {
+		return consultarPrecioPorHora(true, pageable);
+	}
+
+	@Override
+	public List<Curso> findByPrecioPorHoraDesc(Pageable pageable) {
+		return consultarPrecioPorHora(false, pageable);
+	}
+
+	private List<Curso> consultarPrecioPorHora(boolean ascendente, Pageable pageable) {
+		String sentido = ascendente ? "ASC" : "DESC";
+		String sql = COLUMNAS + " WHERE precio_por_hora IS NOT NULL ORDER BY precio_por_hora " + sentido
+				+ ", codigo" + intercalacion + " " + sentido + limite(pageable);
+		Comparator<Curso> orden = Comparator
+				.comparingDouble((Curso curso) -> (double) curso.getPrecio() / curso.getNumeroHoras())
+				.thenComparing(Curso::getCodigo, ordenTexto);
+		return mezclarOrdenado(difundir(fragmento -> fragmento.query(sql, MAPEADOR)),
+				ascendente ? orden : orden.reversed(), pageable);
+	}
+
+	private List<Curso> consultarOrdenado(Sort sort, Pageable pageable) {
+		if (sort.isUnsorted()) {
+			List<Curso> cursos = concatenar(difundir(fragmento -> fragmento.query(COLUMNAS + limite(pageable), MAPEADOR)));
+			return pagina(cursos, pageable);
+		}
+
+		StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+		Comparator<Curso> orden = null;
+		for (Sort.Order criterio : sort) {
+			String columna = COLUMNA_POR_PROPIEDAD.get(criterio.getProperty());
+			if (columna == null) {
+				throw new IllegalArgumentException("No se puede ordenar por " + criterio.getProperty());
+			}
+			Comparator<Curso> comparador = ordenPorPropiedad.get(criterio.getProperty());
+			if (criterio.isDescending()) {
+				comparador = comparador.reversed();
+			}
+			orden = orden == null ? comparador : orden.thenComparing(comparador);
+			if (orderBy.length() > " ORDER BY ".length()) {
+				orderBy.append(", ");
+			}
+			orderBy.append(columna).append(COLUMNAS_TEXTO.contains(columna) ? intercalacion : "")
+					.append(criterio.isAscending() ? " ASC" : " DESC");
+		}
+		String sql = COLUMNAS + orderBy + limite(pageable);
+		return mezclarOrdenado(difundir(fragmento -> fragmento.query(sql, MAPEADOR)), orden, pageable);
+	}
+
+	/**
+	 * Cada fragmento tiene que devolver todas las filas que podrían acabar en la
+	 * página: las que se saltan más las de la propia página.
+	 */
+	private static String limite(Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			return "";
+		}
+		return " LIMIT " + (pageable.getOffset() + pageable.getPageSize());
+	}
+
+	private static List<Curso> pagina(List<Curso> cursos, Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			return cursos;
+		}
+		int desde = (int) Math.min(pageable.getOffset(), cursos.size());
+		int hasta = Math.min(desde + pageable.getPageSize(), cursos.size());
+		return new ArrayList<>(cursos.subList(desde, hasta));
+	}
+
+	/**
+	 * Mezcla las listas ya ordenadas de cada fragmento en una sola, quedándose con
+	 * la página pedida. Usa un montículo con la cabeza de cada lista, de modo que
+	 * solo se recorren las filas necesarias.
+	 */
+	static List<Curso> mezclarOrdenado(List<List<Curso>> listas, Comparator<Curso> orden, Pageable pageable) {
+		long saltar = pageable.isPaged() ? pageable.getOffset() : 0;
+		long tomar = pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE;
+
+		PriorityQueue<Cursor> cabezas = new PriorityQueue<>(Math.max(1, listas.size()),
+				(a, b) -> orden.compare(a.actual(), b.actual()));
+		for (List<Curso> lista : listas) {
+			if (!lista.isEmpty()) {
+				cabezas.add(new Cursor(lista));
+			}
+		}
+
+		List<Curso> resultado = new ArrayList<>();
+		while (!cabezas.isEmpty() && resultado.size() < tomar) {
+			Cursor cursor = cabezas.poll();
+			if (saltar > 0) {
+				saltar--;
+			} else {
+				resultado.add(cursor.actual());
+			}
+			if (cursor.avanzar()) {
+				cabezas.add(cursor);
+			}
+		}
+		return resultado;
+	}
+
+	private static final class Cursor {
+
+		private final List<Curso> lista;
+		private int posicion;
+
+		Cursor(List<Curso> lista) {
+			this.lista = lista;
+		}
+
+		Curso actual() {
+			return lista.get(posicion);
+		}
+
+		boolean avanzar() {
+			return ++posicion < lista.size();
+		}
+	}
+
+	// REVISIONES
+
+	@Override
+	public List<Curso> findModificadosDesde(LocalDateTime desde) {
+		MapSqlParameterSource parametros = new MapSqlParameterSource("desde", desde);
+		return concatenar(difundir(fragmento -> fragmento.query(COLUMNAS + " WHERE modificado >= :desde", parametros,
+				MAPEADOR)));
+	}
+
+	@Override
+	public List<String> findBorradosDesde(LocalDateTime desde) {
+		MapSqlParameterSource parametros = new MapSqlParameterSource("desde", desde);
+		List<String> codigos = new ArrayList<>();
+		difundir(fragmento -> fragmento.queryForList("SELECT codigo FROM cursos_borrados WHERE borrado >= :desde",
+				parametros, String.class)).forEach(codigos::addAll);
+		return codigos;
+	}
+
+	/**
+	 * Deja constancia del borrado en el fragmento del curso. No forma parte de la
+	 * misma transacción que el borrado.
+	 */
+	@Override
+	public void registrarBorrado(String codigo) {
+		fragmentos.get(fragmentoDe(codigo)).update(REGISTRAR_BORRADO, new MapSqlParameterSource("codigo", codigo));
+	}
+
+	@Override
+	public int purgarBorrados(LocalDateTime antes) {
+		MapSqlParameterSource parametros = new MapSqlParameterSource("antes", antes);
+		return difundir(fragmento -> fragmento.update("DELETE FROM cursos_borrados WHERE borrado < :antes", parametros))
+				.stream().mapToInt(Integer::intValue).sum();
+	}
+
+	/**
+	 * Devuelve la hora más antigua de entre las de todos los fragmentos, de modo
+	 * que un desfase entre sus relojes nunca deja cambios sin leer.
+	 */
+	@Override
+	public LocalDateTime findMarcaTiempo() {
+		return difundir(fragmento -> fragmento.queryForObject("SELECT CURRENT_TIMESTAMP(6)",
+				new MapSqlParameterSource(), LocalDateTime.class)).stream().min(Comparator.naturalOrder()).orElseThrow();
+	}
+
+	// REPARTO Y EJECUCIÓN EN PARALELO
+
+	private <T> List<T> difundir(Function<NamedParameterJdbcTemplate, T> consulta) {
+		Map<Integer, NamedParameterJdbcTemplate> todos = new LinkedHashMap<>();
+		for (int i = 0; i < fragmentos.size(); i++) {
+			todos.put(i, fragmentos.get(i));
+		}
+		return new ArrayList<>(enParalelo(todos, (indice, fragmento) -> consulta.apply(fragmento)).values());
+	}
+
+	/**
+	 * Ejecuta la tarea para cada fragmento en paralelo y espera a que terminen
+	 * todas. Si alguna falla se relanza su excepción original.
+	 */
+	private <E, T> Map<Integer, T> enParalelo(Map<Integer, E> porFragmento, TareaFragmento<E, T> tarea) {
+		if (porFragmento.size() == 1) {
+			Map.Entry<Integer, E> unico = porFragmento.entrySet().iterator().next();
+			Map<Integer, T> resultado = new HashMap<>();
+			resultado.put(unico.getKey(), tarea.ejecutar(unico.getKey(), unico.getValue()));
+			return resultado;
+		}
+
+		Map<Integer, CompletableFuture<T>> futuros = new LinkedHashMap<>();
+		porFragmento.forEach((indice, entrada) -> futuros.put(indice,
+				CompletableFuture.supplyAsync(MedicionSql.propagar(() -> tarea.ejecutar(indice, entrada)), ejecutor)));
+
+		Map<Integer, T> resultados = new LinkedHashMap<>();
+		try {
+			CompletableFuture.allOf(futuros.values().toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException causa) {
+				throw causa;
+			}
+			throw e;
+		}
+		futuros.forEach((indice, futuro) -> resultados.put(indice, futuro.join()));
+		return resultados;
+	}
+
+	@FunctionalInterface
+	private interface TareaFragmento<E, T> {
+		T ejecutar(int indice, E entrada);
+	}
+
+	private <T> Map<Integer, List<T>> agruparPorFragmento(List<T> elementos, Function<T, String> codigo) {
+		Map<Integer, List<T>> porFragmento = new HashMap<>();
+		for (T elemento : elementos) {
+			porFragmento.computeIfAbsent(fragmentoDe(codigo.apply(elemento)), indice -> new ArrayList<>()).add(elemento);
+		}
+		return porFragmento;
+	}
+
+	private static List<Curso> concatenar(List<List<Curso>> listas) {
+		List<Curso> cursos = new ArrayList<>();
+		listas.forEach(cursos::addAll);
+		return cursos;
+	}
+
+	private SqlParameterSource parametros(Curso curso) {
+		return new MapSqlParameterSource("codigo", curso.getCodigo())
+				.addValue("nombre", curso.getNombre())
+				.addValue("numeroHoras", curso.getNumeroHoras())
+				.addValue("precio", curso.getPrecio());
+	}
+
+	// MÉTODOS SIN EQUIVALENTE FUERA DE JPA
+
+	@Override
+	public void flush() {
+		// Las escrituras JDBC se aplican al momento; no hay nada pendiente.
+	}
+
+	@Override
+	public <S extends Curso> S saveAndFlush(S entity) {
+		return save(entity);
+	}
+
+	@Override
+	public <S extends Curso> List<S> saveAllAndFlush(Iterable<S> entities) {
+		return saveAll(entities);
+	}
+
+	@Override
+	public void deleteAllInBatch(Iterable<Curso> entities) {
+		deleteAll(entities);
+	}
+
+	@Override
+	public void deleteAllByIdInBatch(Iterable<String> ids) {
+		deleteAllById(ids);
+	}
+
+	@Override
+	public void deleteAllInBatch() {
+		deleteAll();
+	}
+
+	@Deprecated
+	@Override
+	public Curso getOne(String id) {
+		throw new UnsupportedOperationException("El repositorio fragmentado no crea referencias perezosas");
+	}
+
+	@Deprecated
+	@Override
+	public Curso getById(String id) {
+		throw new UnsupportedOperationException("El repositorio fragmentado no crea referencias perezosas");
+	}
+
+	@Override
+	public Curso getReferenceById(String id) {
+		throw new UnsupportedOperationException("El repositorio fragmentado no crea referencias perezosas");
+	}
+
+	@Override
+	public <S extends Curso> Optional<S> findOne(Example<S> example) {
+		throw new UnsupportedOperationException("El repositorio fragmentado no admite consultas por ejemplo");
+	}
+
+	@Override
+	public <S extends Curso> List<S> findAll(Example<S> example) {
+		throw new UnsupportedOperationException("El repositorio fragmentado no admite consultas por ejemplo");
+	}
+
+	@Override
+	public <S extends Curso> List<S> findAll(Example<S> example, Sort sort) {
+		throw new UnsupportedOperationException("El repositorio fragmentado no admite consultas por ejemplo");
+	}
+
+	@Override
+	public <S extends Curso> Page<S> findAll(Example<S> example, Pageable pageable) {
+		throw new UnsupportedOperationException("El repositorio fragmentado no admite consultas por ejemplo");
+	}
+
+	@Override
+	public <S extends Curso> long count(Example<S> example) {
+		throw new UnsupportedOperationException("El repositorio fragmentado no admite consultas por ejemplo");
+	}
+
+	@Override
+	public <S extends Curso> boolean exists(Example<S> example) {
+		throw new UnsupportedOperationException("El repositorio fragmentado no admite consultas por ejemplo");
+	}
+
+	@Override
+	public <S extends Curso, R> R findBy(Example<S> example, Function<FetchableFluentQuery<S>, R> queryFunction) {
+		throw new UnsupportedOperationException("El repositorio fragmentado no admite consultas por ejemplo");
+	}
+}
@@ -0,0 +1,124 @@
+package com.viewnext.kidaprojects.cursosbdd.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración del almacenamiento fragmentado de cursos.
+ *
+ * <p>
+ * La clase {@code ShardingProperties} agrupa las propiedades con prefijo
+ * {@code cursos.sharding}. Cada entrada de {@code fuentes} es una base de datos
+ * independiente con su propia tabla {@code cursos}; el orden de la lista forma
+ * parte del reparto, así que no se debe alterar una vez hay datos.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@ConfigurationProperties(prefix = "cursos.sharding")
+public class ShardingProperties {
+
+	/**
+	 * Activa el repositorio fragmentado en lugar del repositorio JPA.
+	 */
+	private boolean habilitado = false;
+
+	/**
+	 * Número de hilos usados para lanzar en paralelo las consultas a los fragmentos.
+	 */
+	private int hilos = 8;
+
+	/**
+	 * Bases de datos entre las que se reparten los cursos.
+	 */
+	private List<Fuente> fuentes = new ArrayList<>();
+
+	public boolean isHabilitado() {
+		return habilitado;
+	}
+
+	public void setHabilitado(boolean habilitado) {
+		this.habilitado = habilitado;
+	}
+
+	public int getHilos() {
+		return hilos;
+	}
+
+	public void setHilos(int hilos) {
+		this.hilos = hilos;
+	}
+
+	public List<Fuente> getFuentes() {
+		return fuentes;
+	}
+
+	public void setFuentes(List<Fuente> fuentes) {
+		this.fuentes = fuentes;
+	}
+
+	/**
+	 * Datos de conexión de uno de los fragmentos.
+	 */
+	public static class Fuente {
+
+		/**
+		 * URL JDBC de la base de datos.
+		 */
+		private String url;
+
+		/**
+		 * Usuario de la base de datos.
+		 */
+		private String username;
+
+		/**
+		 * Contraseña de la base de datos.
+		 */
+		private String password;
+
+		/**
+		 * Tamaño máximo del pool de conexiones del fragmento.
+		 */
+		private int maximoConexiones = 10;
+
+		public String getUrl() {
+			return url;
+		}
+
+		public void setUrl(String url) {
+			this.url = url;
+		}
+
+		public String getUsername() {
+			return username;
+		}
+
+		public void setUsername(String username) {
+			this.username = username;
+		}
+
+		public String getPassword() {
+			return password;
+		}
+
+		public void setPassword(String password) {
+			this.password = password;
+		}
+
+		public int getMaximoConexiones() {
+			return maximoConexiones;
+		}
+
+		public void setMaximoConexiones(int maximoConexiones) {
+			this.maximoConexiones = maximoConexiones;
+		}
+	}
+}
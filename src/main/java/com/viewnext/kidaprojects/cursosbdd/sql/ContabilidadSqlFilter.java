@@ -0,0 +1,92 @@
+package com.viewnext.kidaprojects.cursosbdd.sql;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filtro que contabiliza las sentencias SQL de cada petición a la API.
+ *
+ * <p>
+ * La clase {@code ContabilidadSqlFilter} abre una {@link MedicionSql} al empezar
+ * la petición y, al terminar, publica sus sentencias, filas y tiempo de base de
+ * datos como métricas {@code cursos.sql.*} etiquetadas con el método y el patrón
+ * de la ruta. Si la petición supera el presupuesto de sentencias lo avisa en el
+ * log y lo cuenta en {@code cursos.sql.presupuesto.excedido}.
+ * </p>
+ *
+ * <p>
+ * Con {@code cursos.sql.cabeceras=true} la respuesta se guarda en memoria hasta
+ * el final para poder añadir las cabeceras {@code X-Sql-Sentencias},
+ * {@code X-Sql-Filas} y {@code X-Sql-Tiempo-Ms} aunque el controlador ya haya
+ * escrito el cuerpo.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class ContabilidadSqlFilter extends OncePerRequestFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(ContabilidadSqlFilter.class);
+
+	private final ContabilidadSqlProperties propiedades;
+	private final MeterRegistry meterRegistry;
+
+	public ContabilidadSqlFilter(ContabilidadSqlProperties propiedades, MeterRegistry meterRegistry) {
+		this.propiedades = propiedades;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		MedicionSql medicion = MedicionSql.iniciar();
+		HttpServletResponse destino = propiedades.isCabeceras() ? new ContentCachingResponseWrapper(response)
+				: response;
+		try {
+			filterChain.doFilter(request, destino);
+		} finally {
+			MedicionSql.terminar();
+			registrar(request, medicion);
+			if (destino instanceof ContentCachingResponseWrapper respuestaEnMemoria) {
+				respuestaEnMemoria.setHeader("X-Sql-Sentencias", String.valueOf(medicion.getSentencias()));
+				respuestaEnMemoria.setHeader("X-Sql-Filas", String.valueOf(medicion.getFilas()));
+				respuestaEnMemoria.setHeader("X-Sql-Tiempo-Ms",
+						String.valueOf(TimeUnit.NANOSECONDS.toMillis(medicion.getTiempoNanos())));
+				respuestaEnMemoria.copyBodyToResponse();
+			}
+		}
+	}
+
+	private void registrar(HttpServletRequest request, MedicionSql medicion) {
+		Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = patron != null ? patron.toString() : "desconocida";
+		Tags etiquetas = Tags.of("metodo", request.getMethod(), "uri", uri);
+
+		meterRegistry.summary("cursos.sql.sentencias", etiquetas).record(medicion.getSentencias());
+		meterRegistry.summary("cursos.sql.filas", etiquetas).record(medicion.getFilas());
+		meterRegistry.timer("cursos.sql.tiempo", etiquetas).record(medicion.getTiempoNanos(), TimeUnit.NANOSECONDS);
+
+		if (medicion.getSentencias() > propiedades.getPresupuestoSentencias()) {
+			meterRegistry.counter("cursos.sql.presupuesto.excedido", etiquetas).increment();
+			log.warn("{} {} ha lanzado {} sentencias SQL, por encima del presupuesto de {}", request.getMethod(),
+					request.getRequestURI(), medicion.getSentencias(), propiedades.getPresupuestoSentencias());
+		}
+	}
+}
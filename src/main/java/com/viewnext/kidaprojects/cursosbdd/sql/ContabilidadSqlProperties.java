@@ -0,0 +1,78 @@
+package com.viewnext.kidaprojects.cursosbdd.sql;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración de la contabilidad de sentencias SQL.
+ *
+ * <p>
+ * La clase {@code ContabilidadSqlProperties} agrupa las propiedades con prefijo
+ * {@code cursos.sql}, que controlan qué se mide de las sentencias lanzadas por
+ * cada petición a la API y cuándo se avisa en el log.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+@ConfigurationProperties(prefix = "cursos.sql")
+public class ContabilidadSqlProperties {
+
+	/**
+	 * Activa la contabilidad de sentencias SQL por petición.
+	 */
+	private boolean habilitada = true;
+
+	/**
+	 * Añade a cada respuesta las cabeceras X-Sql-Sentencias, X-Sql-Filas y
+	 * X-Sql-Tiempo-Ms. Pensado para depurar; no conviene activarlo en producción.
+	 */
+	private boolean cabeceras = false;
+
+	/**
+	 * Duración a partir de la cual una sentencia se registra en el log como lenta.
+	 */
+	private Duration umbralLento = Duration.ofMillis(200);
+
+	/**
+	 * Número de sentencias por petición a partir del cual se avisa en el log.
+	 */
+	private int presupuestoSentencias = 10;
+
+	public boolean isHabilitada() {
+		return habilitada;
+	}
+
+	public void setHabilitada(boolean habilitada) {
+		this.habilitada = habilitada;
+	}
+
+	public boolean isCabeceras() {
+		return cabeceras;
+	}
+
+	public void setCabeceras(boolean cabeceras) {
+		this.cabeceras = cabeceras;
+	}
+
+	public Duration getUmbralLento() {
+		return umbralLento;
+	}
+
+	public void setUmbralLento(Duration umbralLento) {
+		this.umbralLento = umbralLento;
+	}
+
+	public int getPresupuestoSentencias() {
+		return presupuestoSentencias;
+	}
+
+	public void setPresupuestoSentencias(int presupuestoSentencias) {
+		this.presupuestoSentencias = presupuestoSentencias;
+	}
+}
@@ -0,0 +1,41 @@
+package com.viewnext.kidaprojects.cursosbdd.sql;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Sustituye cada {@code DataSource} del contexto por su versión instrumentada.
+ *
+ * <p>
+ * La clase {@code DataSourceContableBeanPostProcessor} envuelve los
+ * {@code DataSource} con {@link InstrumentadorSql} una vez inicializados, de modo
+ * que JPA, {@code JdbcTemplate} y Flyway lanzan sus sentencias a través del
+ * proxy. El instrumentador se obtiene de forma perezosa para no adelantar la
+ * creación de otros beans.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class DataSourceContableBeanPostProcessor implements BeanPostProcessor {
+
+	private final ObjectProvider<InstrumentadorSql> instrumentador;
+
+	public DataSourceContableBeanPostProcessor(ObjectProvider<InstrumentadorSql> instrumentador) {
+		this.instrumentador = instrumentador;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource) {
+			return instrumentador.getObject().envolver(dataSource);
+		}
+		return bean;
+	}
+}
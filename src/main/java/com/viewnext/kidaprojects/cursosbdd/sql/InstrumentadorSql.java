@@ -0,0 +1,259 @@
+package com.viewnext.kidaprojects.cursosbdd.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Envuelve {@code DataSource} para medir las sentencias SQL que se lanzan.
+ *
+ * <p>
+ * La clase {@code InstrumentadorSql} devuelve un proxy del {@code DataSource} que
+ * a su vez envuelve las conexiones, sentencias y resultados que entrega. Cada
+ * ejecución suma sus sentencias y su duración a la {@link MedicionSql} en curso,
+ * y cada fila leída de un {@code ResultSet} suma una fila. Un lote cuenta como
+ * tantas sentencias como elementos tiene.
+ * </p>
+ *
+ * <p>
+ * Las ejecuciones que superan el umbral configurado se registran en el log con la
+ * sentencia y la forma de sus parámetros (posición y tipo), nunca con sus
+ * valores, para no volcar datos de los cursos en el log.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public class InstrumentadorSql {
+
+	private static final Logger log = LoggerFactory.getLogger(InstrumentadorSql.class);
+
+	private static final Set<String> EJECUCIONES = Set.of("execute", "executeQuery", "executeUpdate",
+			"executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+	private final long umbralLentoNanos;
+
+	public InstrumentadorSql(Duration umbralLento) {
+		this.umbralLentoNanos = umbralLento.toNanos();
+	}
+
+	/**
+	 * Devuelve un {@code DataSource} que mide las sentencias lanzadas a través de
+	 * él. Si ya estaba envuelto se devuelve tal cual.
+	 *
+	 * @param dataSource El {@code DataSource} original.
+	 * @return El {@code DataSource} instrumentado.
+	 */
+	public DataSource envolver(DataSource dataSource) {
+		if (Proxy.isProxyClass(dataSource.getClass())
+				&& Proxy.getInvocationHandler(dataSource) instanceof FuenteInstrumentada) {
+			return dataSource;
+		}
+		return proxy(DataSource.class, new FuenteInstrumentada(dataSource));
+	}
+
+	/**
+	 * Describe los tipos de los parámetros de una sentencia, por ejemplo
+	 * {@code (1:String, 2:Int)}.
+	 */
+	static String formaParametros(Map<Integer, String> tipos) {
+		StringJoiner forma = new StringJoiner(", ", "(", ")");
+		tipos.forEach((posicion, tipo) -> forma.add(posicion + ":" + tipo));
+		return forma.toString();
+	}
+
+	private void registrar(String sql, Map<Integer, String> parametros, int sentencias, long nanos) {
+		MedicionSql medicion = MedicionSql.actual();
+		if (medicion != null) {
+			medicion.registrarEjecucion(sentencias, nanos);
+		}
+		if (nanos >= umbralLentoNanos) {
+			log.warn("Sentencia SQL lenta ({} ms, {} sentencia(s)): {} parámetros {}", nanos / 1_000_000, sentencias,
+					sql, formaParametros(parametros));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> interfaz, InvocationHandler manejador) {
+		return (T) Proxy.newProxyInstance(InstrumentadorSql.class.getClassLoader(), new Class<?>[] { interfaz },
+				manejador);
+	}
+
+	private static Object invocar(Object destino, Method metodo, Object[] argumentos) throws Throwable {
+		try {
+			return metodo.invoke(destino, argumentos);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Base de los proxies: la igualdad y el hash son los del propio proxy, porque
+	 * Hibernate y el pool guardan sentencias y conexiones en mapas.
+	 */
+	private abstract static class Envoltorio implements InvocationHandler {
+
+		@Override
+		public final Object invoke(Object proxy, Method metodo, Object[] argumentos) throws Throwable {
+			if ("equals".equals(metodo.getName()) && argumentos != null && argumentos.length == 1) {
+				return proxy == argumentos[0];
+			}
+			if ("hashCode".equals(metodo.getName()) && (argumentos == null || argumentos.length == 0)) {
+				return System.identityHashCode(proxy);
+			}
+			return interceptar(metodo, argumentos);
+		}
+
+		abstract Object interceptar(Method metodo, Object[] argumentos) throws Throwable;
+	}
+
+	private final class FuenteInstrumentada extends Envoltorio {
+
+		private final DataSource destino;
+
+		FuenteInstrumentada(DataSource destino) {
+			this.destino = destino;
+		}
+
+		@Override
+		Object interceptar(Method metodo, Object[] argumentos) throws Throwable {
+			Object resultado = invocar(destino, metodo, argumentos);
+			if ("getConnection".equals(metodo.getName())) {
+				return proxy(Connection.class, new ConexionInstrumentada((Connection) resultado));
+			}
+			return resultado;
+		}
+	}
+
+	private final class ConexionInstrumentada extends Envoltorio {
+
+		private final Connection destino;
+
+		ConexionInstrumentada(Connection destino) {
+			this.destino = destino;
+		}
+
+		@Override
+		Object interceptar(Method metodo, Object[] argumentos) throws Throwable {
+			Object resultado = invocar(destino, metodo, argumentos);
+			switch (metodo.getName()) {
+			case "createStatement":
+				return proxy(Statement.class, new SentenciaInstrumentada((Statement) resultado, null));
+			case "prepareStatement":
+				return proxy(PreparedStatement.class,
+						new SentenciaInstrumentada((Statement) resultado, (String) argumentos[0]));
+			case "prepareCall":
+				return proxy(CallableStatement.class,
+						new SentenciaInstrumentada((Statement) resultado, (String) argumentos[0]));
+			default:
+				return resultado;
+			}
+		}
+	}
+
+	private final class SentenciaInstrumentada extends Envoltorio {
+
+		private final Statement destino;
+		private String sql;
+		private final Map<Integer, String> parametros = new TreeMap<>();
+		private int lote;
+
+		SentenciaInstrumentada(Statement destino, String sql) {
+			this.destino = destino;
+			this.sql = sql;
+		}
+
+		@Override
+		Object interceptar(Method metodo, Object[] argumentos) throws Throwable {
+			String nombre = metodo.getName();
+			if (EJECUCIONES.contains(nombre)) {
+				return ejecutar(metodo, argumentos);
+			}
+
+			Object resultado = invocar(destino, metodo, argumentos);
+			if (nombre.startsWith("set") && argumentos != null && argumentos.length >= 2
+					&& argumentos[0] instanceof Integer posicion) {
+				parametros.put(posicion, tipo(nombre, argumentos[1]));
+			} else if ("clearParameters".equals(nombre)) {
+				parametros.clear();
+			} else if ("addBatch".equals(nombre)) {
+				lote++;
+				if (argumentos != null && argumentos.length == 1) {
+					sql = (String) argumentos[0];
+				}
+			} else if ("clearBatch".equals(nombre)) {
+				lote = 0;
+			} else if ("getResultSet".equals(nombre) && resultado != null) {
+				return filas((ResultSet) resultado);
+			}
+			return resultado;
+		}
+
+		private Object ejecutar(Method metodo, Object[] argumentos) throws Throwable {
+			String sentencia = argumentos != null && argumentos.length > 0 && argumentos[0] instanceof String texto
+					? texto
+					: sql;
+			boolean esLote = metodo.getName().endsWith("Batch");
+			int sentencias = esLote ? Math.max(lote, 1) : 1;
+
+			long inicio = System.nanoTime();
+			try {
+				Object resultado = invocar(destino, metodo, argumentos);
+				return resultado instanceof ResultSet resultados ? filas(resultados) : resultado;
+			} finally {
+				registrar(sentencia, parametros, sentencias, System.nanoTime() - inicio);
+				if (esLote) {
+					lote = 0;
+				}
+			}
+		}
+
+		private ResultSet filas(ResultSet resultados) {
+			MedicionSql medicion = MedicionSql.actual();
+			if (medicion == null) {
+				return resultados;
+			}
+			return proxy(ResultSet.class, new Envoltorio() {
+
+				@Override
+				Object interceptar(Method metodo, Object[] argumentos) throws Throwable {
+					Object resultado = invocar(resultados, metodo, argumentos);
+					if ("next".equals(metodo.getName()) && Boolean.TRUE.equals(resultado)) {
+						medicion.registrarFila();
+					}
+					return resultado;
+				}
+			});
+		}
+
+		private String tipo(String setter, Object valor) {
+			if ("setNull".equals(setter)) {
+				return "null";
+			}
+			if ("setObject".equals(setter)) {
+				return valor == null ? "null" : valor.getClass().getSimpleName();
+			}
+			return setter.substring("set".length());
+		}
+	}
+}
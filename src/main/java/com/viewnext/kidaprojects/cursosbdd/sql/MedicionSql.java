@@ -0,0 +1,105 @@
+package com.viewnext.kidaprojects.cursosbdd.sql;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Sentencias, filas y tiempo de base de datos acumulados durante una petición.
+ *
+ * <p>
+ * La medición en curso se guarda en el hilo que atiende la petición. El código
+ * que reparte trabajo de base de datos entre otros hilos debe envolver sus tareas
+ * con {@link #propagar(Supplier)} para que también se contabilicen.
+ * </p>
+ *
+ * <p>
+ * El autor de esta clase es Víctor Colorado "Kid A".
+ * </p>
+ *
+ * @version 1.0
+ * @since 18 de octubre de 2026
+ */
+public final class MedicionSql {
+
+	private static final ThreadLocal<MedicionSql> ACTUAL = new ThreadLocal<>();
+
+	private final AtomicLong sentencias = new AtomicLong();
+	private final AtomicLong filas = new AtomicLong();
+	private final AtomicLong tiempoNanos = new AtomicLong();
+
+	/**
+	 * Empieza una medición nueva en el hilo actual.
+	 *
+	 * @return La medición iniciada.
+	 */
+	public static MedicionSql iniciar() {
+		MedicionSql medicion = new MedicionSql();
+		ACTUAL.set(medicion);
+		return medicion;
+	}
+
+	/**
+	 * Devuelve la medición en curso en el hilo actual.
+	 *
+	 * @return La medición, o {@code null} si el hilo no está atendiendo una petición.
+	 */
+	public static MedicionSql actual() {
+		return ACTUAL.get();
+	}
+
+	/**
+	 * Termina la medición del hilo actual.
+	 */
+	public static void terminar() {
+		ACTUAL.remove();
+	}
+
+	/**
+	 * Envuelve una tarea para que, ejecutada en otro hilo, acumule en la medición
+	 * del hilo que la crea.
+	 *
+	 * @param <T>   El tipo del resultado de la tarea.
+	 * @param tarea La tarea a envolver.
+	 * @return La tarea envuelta, o la misma tarea si no hay medición en curso.
+	 */
+	public static <T> Supplier<T> propagar(Supplier<T> tarea) {
+		MedicionSql medicion = ACTUAL.get();
+		if (medicion == null) {
+			return tarea;
+		}
+		return () -> {
+			MedicionSql anterior = ACTUAL.get();
+			ACTUAL.set(medicion);
+			try {
+				return tarea.get();
+			} finally {
+				if (anterior == null) {
+					ACTUAL.remove();
+				} else {
+					ACTUAL.set(anterior);
+				}
+			}
+		};
+	}
+
+	void registrarEjecucion(int numeroSentencias, long nanos) {
+		sentencias.addAndGet(numeroSentencias);
+		tiempoNanos.addAndGet(nanos);
+	}
+
+	void registrarFila() {
+		filas.incrementAndGet();
+	}
+
+	public long getSentencias() {
+		return sentencias.get();
+	}
+
+	public long getFilas() {
+		return filas.get();
+	}
+
+	public long getTiempoNanos() {
+		return tiempoNanos.get();
+	}
+}
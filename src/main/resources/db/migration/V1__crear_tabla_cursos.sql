@@ -0,0 +1,9 @@
+-- Tabla de cursos tal y como la generaba Hibernate a partir de la entidad Curso.
+-- Con IF NOT EXISTS la migración también vale para bases de datos creadas antes de Flyway.
+CREATE TABLE IF NOT EXISTS cursos (
+	codigo VARCHAR(255) NOT NULL,
+	nombre VARCHAR(255),
+	numero_horas INT NOT NULL,
+	precio INT NOT NULL,
+	PRIMARY KEY (codigo)
+);
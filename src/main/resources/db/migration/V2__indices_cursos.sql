@@ -0,0 +1,21 @@
+-- Índices para las consultas de CursoRepository. Los de ordenación terminan en
+-- codigo, que es el desempate de los N primeros cursos, y van en los dos sentidos
+-- porque no todos los motores recorren un índice hacia atrás.
+
+-- findByPrecioBetween y los N cursos más baratos o más caros.
+CREATE INDEX idx_cursos_precio ON cursos (precio, codigo);
+CREATE INDEX idx_cursos_precio_desc ON cursos (precio DESC, codigo DESC);
+
+-- findCursosByNombreStartingWith (LIKE 'prefijo%').
+CREATE INDEX idx_cursos_nombre ON cursos (nombre);
+
+-- Los N cursos con menos o más horas.
+CREATE INDEX idx_cursos_horas ON cursos (numero_horas, codigo);
+CREATE INDEX idx_cursos_horas_desc ON cursos (numero_horas DESC, codigo DESC);
+
+-- Los N cursos con menor o mayor precio por hora. La expresión se guarda en una
+-- columna generada para poder indexarla; es NULL para los cursos sin horas.
+ALTER TABLE cursos ADD COLUMN precio_por_hora DECIMAL(30, 10)
+	GENERATED ALWAYS AS (CASE WHEN numero_horas > 0 THEN CAST(precio AS DECIMAL(30, 10)) / numero_horas END);
+CREATE INDEX idx_cursos_precio_por_hora ON cursos (precio_por_hora, codigo);
+CREATE INDEX idx_cursos_precio_por_hora_desc ON cursos (precio_por_hora DESC, codigo DESC);
@@ -0,0 +1,13 @@
+-- Revisiones para poner al día las copias en memoria del catálogo (instantáneas)
+-- sin leer la tabla entera: cada alta o modificación deja en modificado el momento
+-- de la escritura, y cada borrado deja una marca en cursos_borrados.
+
+ALTER TABLE cursos ADD COLUMN modificado TIMESTAMP(6) NOT NULL
+	DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+CREATE INDEX idx_cursos_modificado ON cursos (modificado);
+
+CREATE TABLE IF NOT EXISTS cursos_borrados (
+	codigo VARCHAR(255) NOT NULL PRIMARY KEY,
+	borrado TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX idx_cursos_borrados_borrado ON cursos_borrados (borrado);
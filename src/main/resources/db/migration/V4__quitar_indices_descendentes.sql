@@ -0,0 +1,6 @@
+-- MySQL y MariaDB recorren un índice hacia atrás para ORDER BY ... DESC, así que
+-- los índices descendentes de V2 solo duplicaban el coste de cada escritura.
+
+ALTER TABLE cursos DROP INDEX idx_cursos_precio_desc;
+ALTER TABLE cursos DROP INDEX idx_cursos_horas_desc;
+ALTER TABLE cursos DROP INDEX idx_cursos_precio_por_hora_desc;
@@ -2,8 +2,12 @@ package com.viewnext.kidaprojects.cursosBDD;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest
+import com.viewnext.kidaprojects.cursosbdd.CursosBddApplication;
+
+@SpringBootTest(classes = CursosBddApplication.class)
+@ActiveProfiles("test")
 class CursosBddApplicationTests {
 
 	@Test
@@ -0,0 +1,76 @@
+package com.viewnext.kidaprojects.cursosbdd.admision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class ControlAdmisionInterceptorTest {
+
+	private ControlAdmisionInterceptor interceptor;
+
+	@BeforeEach
+	void preparar() {
+		AdmisionProperties propiedades = new AdmisionProperties();
+		propiedades.getAlta().setLimiteInicial(1);
+		propiedades.getAlta().setLimiteMinimo(1);
+		propiedades.getAlta().setLimiteMaximo(1);
+		propiedades.getAlta().setCola(5);
+		propiedades.getAlta().setEsperaMaxima(Duration.ofSeconds(5));
+		interceptor = new ControlAdmisionInterceptor(propiedades);
+	}
+
+	@Test
+	void losListadosSeRechazanMientrasLasConsultasPorCodigoEsperan() throws Exception {
+		MockHttpServletRequest primera = peticion("/curso/{codigo}");
+		MockHttpServletResponse respuestaPrimera = new MockHttpServletResponse();
+		assertTrue(interceptor.preHandle(primera, respuestaPrimera, null));
+
+		MockHttpServletRequest segunda = peticion("/curso/{codigo}");
+		CompletableFuture<Boolean> segundaAdmitida = CompletableFuture
+				.supplyAsync(() -> preHandle(segunda, new MockHttpServletResponse()));
+		LimitadorAimd porCodigo = interceptor.getLimitadores().get("GET /curso/{codigo}");
+		while (porCodigo.getEnEspera() == 0) {
+			Thread.onSpinWait();
+		}
+
+		for (String listado : new String[] { "/cursos", "/cursos/rango" }) {
+			MockHttpServletResponse rechazo = new MockHttpServletResponse();
+			assertFalse(interceptor.preHandle(peticion(listado), rechazo, null));
+			assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), rechazo.getStatus());
+			assertEquals("1", rechazo.getHeader(HttpHeaders.RETRY_AFTER));
+		}
+		assertFalse(segundaAdmitida.isDone());
+
+		interceptor.afterCompletion(primera, respuestaPrimera, null, null);
+		assertTrue(segundaAdmitida.get(5, TimeUnit.SECONDS));
+		assertEquals(0, porCodigo.getEnEspera());
+
+		assertTrue(interceptor.preHandle(peticion("/cursos"), new MockHttpServletResponse(), null));
+	}
+
+	private boolean preHandle(MockHttpServletRequest peticion, MockHttpServletResponse respuesta) {
+		try {
+			return interceptor.preHandle(peticion, respuesta, null);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static MockHttpServletRequest peticion(String patron) {
+		MockHttpServletRequest peticion = new MockHttpServletRequest("GET", patron);
+		peticion.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, patron);
+		return peticion;
+	}
+}
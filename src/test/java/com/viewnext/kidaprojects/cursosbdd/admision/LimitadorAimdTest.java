@@ -0,0 +1,126 @@
+package com.viewnext.kidaprojects.cursosbdd.admision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class LimitadorAimdTest {
+
+	private static final long LATENCIA_OBJETIVO_MS = 100;
+
+	private LimitadorAimd crearLimitador(int limiteInicial, int cola) {
+		return new LimitadorAimd(limiteInicial, 1, 10, cola, LATENCIA_OBJETIVO_MS, TimeUnit.MILLISECONDS, 0.5);
+	}
+
+	@Test
+	void rechazaSinEsperarCuandoLaColaEstaLlena() throws InterruptedException {
+		LimitadorAimd limitador = crearLimitador(2, 0);
+
+		assertTrue(limitador.adquirir(0));
+		assertTrue(limitador.adquirir(0));
+		assertFalse(limitador.adquirir(TimeUnit.SECONDS.toNanos(1)));
+		assertEquals(2, limitador.getEnCurso());
+	}
+
+	@Test
+	void rechazaCuandoSeAgotaLaEspera() throws InterruptedException {
+		LimitadorAimd limitador = crearLimitador(1, 5);
+
+		assertTrue(limitador.adquirir(0));
+		assertFalse(limitador.adquirir(TimeUnit.MILLISECONDS.toNanos(20)));
+		assertEquals(0, limitador.getEnEspera());
+	}
+
+	@Test
+	void admiteALaPeticionEnEsperaAlLiberarUnPermiso() throws InterruptedException {
+		LimitadorAimd limitador = crearLimitador(1, 5);
+		assertTrue(limitador.adquirir(0));
+
+		CountDownLatch esperando = new CountDownLatch(1);
+		AtomicBoolean admitida = new AtomicBoolean();
+		Thread hilo = new Thread(() -> {
+			esperando.countDown();
+			try {
+				admitida.set(limitador.adquirir(TimeUnit.SECONDS.toNanos(5)));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		hilo.start();
+		esperando.await();
+		while (limitador.getEnEspera() == 0) {
+			Thread.onSpinWait();
+		}
+
+		limitador.liberar(TimeUnit.MILLISECONDS.toNanos(1), false);
+		hilo.join(TimeUnit.SECONDS.toMillis(5));
+
+		assertTrue(admitida.get());
+		assertEquals(1, limitador.getEnCurso());
+	}
+
+	@Test
+	void unaPeticionNuevaNoAdelantaALasQueEsperan() throws InterruptedException {
+		LimitadorAimd limitador = new LimitadorAimd(1, 1, 1, 5, LATENCIA_OBJETIVO_MS, TimeUnit.MILLISECONDS, 0.5);
+		assertTrue(limitador.adquirir(0));
+
+		AtomicBoolean admitida = new AtomicBoolean();
+		Thread hilo = new Thread(() -> {
+			try {
+				admitida.set(limitador.adquirir(TimeUnit.SECONDS.toNanos(5)));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		hilo.start();
+		while (limitador.getEnEspera() == 0) {
+			Thread.onSpinWait();
+		}
+
+		limitador.liberar(TimeUnit.MILLISECONDS.toNanos(1), false);
+		assertFalse(limitador.adquirir(0));
+		hilo.join(TimeUnit.SECONDS.toMillis(5));
+
+		assertTrue(admitida.get());
+		assertEquals(1, limitador.getEnCurso());
+	}
+
+	@Test
+	void incrementaElLimiteConPeticionesRapidas() throws InterruptedException {
+		LimitadorAimd limitador = crearLimitador(2, 0);
+
+		for (int i = 0; i < 20; i++) {
+			assertTrue(limitador.adquirir(0));
+			assertTrue(limitador.adquirir(0));
+			limitador.liberar(TimeUnit.MILLISECONDS.toNanos(1), false);
+			limitador.liberar(TimeUnit.MILLISECONDS.toNanos(1), false);
+		}
+
+		assertTrue(limitador.getLimite() > 2);
+	}
+
+	@Test
+	void reduceElLimiteConPeticionesLentasOFallidas() throws InterruptedException {
+		LimitadorAimd limitador = crearLimitador(8, 0);
+
+		assertTrue(limitador.adquirir(0));
+		limitador.liberar(TimeUnit.MILLISECONDS.toNanos(LATENCIA_OBJETIVO_MS * 2), false);
+		assertEquals(4, limitador.getLimite());
+
+		assertTrue(limitador.adquirir(0));
+		limitador.liberar(TimeUnit.MILLISECONDS.toNanos(1), true);
+		assertEquals(2, limitador.getLimite());
+
+		for (int i = 0; i < 10; i++) {
+			assertTrue(limitador.adquirir(0));
+			limitador.liberar(TimeUnit.MILLISECONDS.toNanos(LATENCIA_OBJETIVO_MS * 2), false);
+		}
+		assertEquals(1, limitador.getLimite());
+	}
+}
@@ -0,0 +1,118 @@
+package com.viewnext.kidaprojects.cursosbdd.analitica;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.viewnext.kidaprojects.cursosbdd.event.CursoBorradoEvent;
+import com.viewnext.kidaprojects.cursosbdd.event.CursosGuardadosEvent;
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+import com.viewnext.kidaprojects.cursosbdd.repository.CursoRepository;
+
+class CatalogoColumnarTest {
+
+	private final Map<String, Curso> catalogo = new HashMap<>();
+	private CursoRepository cursoRepository;
+	private CatalogoColumnar catalogoColumnar;
+
+	@BeforeEach
+	void preparar() {
+		cursoRepository = mock(CursoRepository.class);
+		when(cursoRepository.findAll()).thenAnswer(invocacion -> new ArrayList<>(catalogo.values()));
+		catalogoColumnar = new CatalogoColumnar(16);
+		ReflectionTestUtils.setField(catalogoColumnar, "cursoRepository", cursoRepository);
+	}
+
+	@Test
+	void coincideConElCatalogoTrasEscriturasYBorrados() {
+		Random aleatorio = new Random(11);
+		for (int i = 0; i < 500; i++) {
+			catalogo.put("C" + i, curso("C" + i, aleatorio));
+		}
+		assertEquals(500, catalogoColumnar.getNumeroCursos());
+
+		for (int i = 0; i < 3000; i++) {
+			String codigo = "C" + aleatorio.nextInt(800);
+			if (aleatorio.nextInt(3) == 0) {
+				catalogo.remove(codigo);
+				catalogoColumnar.alBorrar(new CursoBorradoEvent(codigo));
+			} else {
+				Curso curso = curso(codigo, aleatorio);
+				catalogo.put(codigo, curso);
+				catalogoColumnar.alGuardar(new CursosGuardadosEvent(List.of(curso)));
+			}
+		}
+
+		assertEquals(catalogo.size(), catalogoColumnar.getNumeroCursos());
+		assertEquals(tramosReales(250), catalogoColumnar.resumenPorTramoPrecio(250));
+		assertEquals(contarReal(20, 60, null), catalogoColumnar.contarPorRangoHoras(20, 60, null).cursos());
+		assertEquals(contarReal(20, 60, "Curso 3"), catalogoColumnar.contarPorRangoHoras(20, 60, "Curso 3").cursos());
+		assertEquals(0, catalogoColumnar.contarPorRangoHoras(0, 100, "Inexistente").cursos());
+		verify(cursoRepository, times(1)).findAll();
+	}
+
+	@Test
+	void recorreVariosBloquesEnParalelo() {
+		List<Curso> cursos = new ArrayList<>();
+		for (int i = 0; i < CatalogoColumnar.TAMANO_BLOQUE * 2 + 123; i++) {
+			cursos.add(new Curso("C" + i, "Curso " + (i % 7), i % 50, i % 1000 - 10));
+		}
+		catalogoColumnar.getNumeroCursos();
+		catalogoColumnar.alGuardar(new CursosGuardadosEvent(cursos));
+		cursos.forEach(curso -> catalogo.put(curso.getCodigo(), curso));
+
+		assertEquals(tramosReales(100), catalogoColumnar.resumenPorTramoPrecio(100));
+		assertEquals(contarReal(10, 19, "Curso 2"), catalogoColumnar.contarPorRangoHoras(10, 19, "Curso 2").cursos());
+	}
+
+	@Test
+	void rechazaTramosInvalidos() {
+		catalogo.put("A", new Curso("A", "A", 1, 0));
+		catalogo.put("B", new Curso("B", "B", 1, 1_000_000));
+
+		assertThrows(IllegalArgumentException.class, () -> catalogoColumnar.resumenPorTramoPrecio(0));
+		assertThrows(IllegalArgumentException.class, () -> catalogoColumnar.resumenPorTramoPrecio(1));
+		assertEquals(2, catalogoColumnar.resumenPorTramoPrecio(1_000).size());
+	}
+
+	private static Curso curso(String codigo, Random aleatorio) {
+		return new Curso(codigo, "Curso " + aleatorio.nextInt(10), aleatorio.nextInt(100), aleatorio.nextInt(5000));
+	}
+
+	private List<TramoPrecio> tramosReales(int ancho) {
+		Map<Long, List<Curso>> porTramo = new TreeMap<>();
+		for (Curso curso : catalogo.values()) {
+			porTramo.computeIfAbsent(Math.floorDiv((long) curso.getPrecio(), ancho), tramo -> new ArrayList<>())
+					.add(curso);
+		}
+		List<TramoPrecio> tramos = new ArrayList<>();
+		porTramo.forEach((tramo, cursos) -> {
+			long precios = cursos.stream().mapToLong(Curso::getPrecio).sum();
+			long horas = cursos.stream().mapToLong(Curso::getNumeroHoras).sum();
+			tramos.add(new TramoPrecio(tramo * ancho, tramo * ancho + ancho - 1, cursos.size(), precios,
+					(double) precios / cursos.size(), horas, (double) horas / cursos.size()));
+		});
+		return tramos;
+	}
+
+	private long contarReal(int minimo, int maximo, String nombre) {
+		return catalogo.values().stream()
+				.filter(curso -> curso.getNumeroHoras() >= minimo && curso.getNumeroHoras() <= maximo)
+				.filter(curso -> nombre == null || nombre.equals(curso.getNombre()))
+				.count();
+	}
+}
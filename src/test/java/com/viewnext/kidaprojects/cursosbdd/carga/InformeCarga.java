@@ -0,0 +1,183 @@
+package com.viewnext.kidaprojects.cursosbdd.carga;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Resultados de una prueba de carga agrupados por operación.
+ *
+ * <p>
+ * La clase {@code InformeCarga} acumula las latencias de cada operación en un
+ * histograma HdrHistogram (en microsegundos) junto con el número de errores y de
+ * peticiones rechazadas por el control de admisión. Permite imprimir un resumen,
+ * guardarlo como fichero de propiedades y compararlo con una línea base guardada
+ * previamente. Un percentil solo se guarda y se compara si la ejecución tiene al
+ * menos {@value #MUESTRAS_POR_ENCIMA} peticiones por encima de él; con menos, el
+ * valor es prácticamente el máximo y varía demasiado entre ejecuciones.
+ * </p>
+ */
+class InformeCarga {
+
+	private static final double[] PERCENTILES = { 50.0, 99.0, 99.9 };
+	private static final String[] CLAVES_PERCENTILES = { "p50", "p99", "p999" };
+	private static final int MUESTRAS_POR_ENCIMA = 5;
+
+	private final Map<Operacion, Histogram> latencias = new EnumMap<>(Operacion.class);
+	private final Map<Operacion, LongAdder> errores = new EnumMap<>(Operacion.class);
+	private final Map<Operacion, LongAdder> rechazadas = new EnumMap<>(Operacion.class);
+
+	InformeCarga() {
+		for (Operacion operacion : Operacion.values()) {
+			latencias.put(operacion, new ConcurrentHistogram(3));
+			errores.put(operacion, new LongAdder());
+			rechazadas.put(operacion, new LongAdder());
+		}
+	}
+
+	void registrar(Operacion operacion, long latenciaNanos, int estado) {
+		latencias.get(operacion).recordValue(Math.max(1, latenciaNanos / 1_000));
+		if (estado == 503) {
+			rechazadas.get(operacion).increment();
+		} else if (estado < 0 || estado >= 500) {
+			errores.get(operacion).increment();
+		}
+	}
+
+	void imprimir(double segundos) {
+		System.out.printf("%n%-14s %9s %9s %9s %10s %10s %10s %10s%n", "operacion", "peticiones", "errores",
+				"503", "p50 ms", "p99 ms", "p999 ms", "max ms");
+		long total = 0;
+		for (Operacion operacion : Operacion.values()) {
+			Histogram histograma = latencias.get(operacion);
+			total += histograma.getTotalCount();
+			System.out.printf("%-14s %9d %9d %9d %10.2f %10.2f %10.2f %10.2f%n", operacion.getNombre(),
+					histograma.getTotalCount(), errores.get(operacion).sum(), rechazadas.get(operacion).sum(),
+					enMilisegundos(histograma.getValueAtPercentile(50.0)),
+					enMilisegundos(histograma.getValueAtPercentile(99.0)),
+					enMilisegundos(histograma.getValueAtPercentile(99.9)),
+					enMilisegundos(histograma.getMaxValue()));
+		}
+		System.out.printf("%nTotal: %d peticiones en %.1f s (%.1f peticiones/s)%n", total, segundos,
+				total / segundos);
+	}
+
+	/**
+	 * Guarda los percentiles de cada operación que tienen muestras suficientes para
+	 * compararse, junto con la configuración de la prueba que los ha producido.
+	 *
+	 * @param fichero       El fichero de destino.
+	 * @param configuracion La configuración de la prueba, que se guarda con el prefijo {@code configuracion.}.
+	 */
+	void guardar(Path fichero, Map<String, String> configuracion) throws IOException {
+		Properties propiedades = new Properties();
+		configuracion.forEach((clave, valor) -> propiedades.setProperty("configuracion." + clave, valor));
+		for (Operacion operacion : Operacion.values()) {
+			Histogram histograma = latencias.get(operacion);
+			if (histograma.getTotalCount() == 0) {
+				continue;
+			}
+			for (int i = 0; i < PERCENTILES.length; i++) {
+				if (!esComparable(histograma, PERCENTILES[i])) {
+					continue;
+				}
+				propiedades.setProperty(operacion.getNombre() + "." + CLAVES_PERCENTILES[i],
+						String.valueOf(histograma.getValueAtPercentile(PERCENTILES[i])));
+			}
+		}
+		Files.createDirectories(fichero.toAbsolutePath().getParent());
+		try (Writer writer = Files.newBufferedWriter(fichero)) {
+			propiedades.store(writer, "Latencias de la prueba de carga en microsegundos");
+		}
+	}
+
+	/**
+	 * Compara los percentiles de esta ejecución con los de la línea base. Los que
+	 * no tienen muestras suficientes en esta ejecución o no están en la línea base
+	 * se anuncian como no comparados.
+	 *
+	 * @param fichero            El fichero de línea base.
+	 * @param tolerancia         El empeoramiento relativo admitido (0.2 = 20 %).
+	 * @param margenMinimoMicros El empeoramiento absoluto por debajo del cual no se
+	 *                           considera regresión, para no reaccionar al ruido.
+	 * @return La lista de regresiones encontradas, vacía si no hay ninguna.
+	 */
+	List<String> compararCon(Path fichero, double tolerancia, long margenMinimoMicros) throws IOException {
+		Properties lineaBase = leer(fichero);
+		List<String> regresiones = new ArrayList<>();
+		for (Operacion operacion : Operacion.values()) {
+			Histogram histograma = latencias.get(operacion);
+			if (histograma.getTotalCount() == 0) {
+				continue;
+			}
+			for (int i = 0; i < PERCENTILES.length; i++) {
+				String clave = operacion.getNombre() + "." + CLAVES_PERCENTILES[i];
+				String valorBase = lineaBase.getProperty(clave);
+				if (!esComparable(histograma, PERCENTILES[i])) {
+					System.out.printf("%s: no comparado (%d peticiones, hacen falta %d)%n", clave,
+							histograma.getTotalCount(), muestrasNecesarias(PERCENTILES[i]));
+					continue;
+				}
+				if (valorBase == null) {
+					System.out.printf("%s: no comparado (no está en la línea base)%n", clave);
+					continue;
+				}
+				long base = Long.parseLong(valorBase);
+				long actual = histograma.getValueAtPercentile(PERCENTILES[i]);
+				if (actual > base * (1 + tolerancia) && actual - base > margenMinimoMicros) {
+					regresiones.add(String.format("%s: %.2f ms frente a %.2f ms de la línea base", clave,
+							enMilisegundos(actual), enMilisegundos(base)));
+				}
+			}
+		}
+		return regresiones;
+	}
+
+	/**
+	 * Lee la configuración con la que se midió una línea base.
+	 *
+	 * @param fichero El fichero de línea base.
+	 * @return La configuración guardada, sin el prefijo {@code configuracion.}.
+	 */
+	static Map<String, String> configuracionDe(Path fichero) throws IOException {
+		Map<String, String> configuracion = new TreeMap<>();
+		leer(fichero).forEach((clave, valor) -> {
+			if (clave.toString().startsWith("configuracion.")) {
+				configuracion.put(clave.toString().substring("configuracion.".length()), valor.toString());
+			}
+		});
+		return configuracion;
+	}
+
+	private static boolean esComparable(Histogram histograma, double percentil) {
+		return histograma.getTotalCount() >= muestrasNecesarias(percentil);
+	}
+
+	private static long muestrasNecesarias(double percentil) {
+		return Math.round(MUESTRAS_POR_ENCIMA * 100.0 / (100.0 - percentil));
+	}
+
+	private static Properties leer(Path fichero) throws IOException {
+		Properties propiedades = new Properties();
+		try (Reader reader = Files.newBufferedReader(fichero)) {
+			propiedades.load(reader);
+		}
+		return propiedades;
+	}
+
+	private static double enMilisegundos(long micros) {
+		return micros / 1_000.0;
+	}
+}
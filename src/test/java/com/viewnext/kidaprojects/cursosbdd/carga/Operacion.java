@@ -0,0 +1,45 @@
+package com.viewnext.kidaprojects.cursosbdd.carga;
+
+/**
+ * Operaciones de la API que genera la prueba de carga.
+ *
+ * <p>
+ * Cada operación corresponde a un endpoint de {@code CursoRestController} y tiene
+ * un nombre corto que se usa en la configuración de la mezcla de tráfico, en el
+ * informe y en el fichero de línea base.
+ * </p>
+ */
+enum Operacion {
+
+	CONSULTA("consulta", 60),
+	RANGO("rango", 10),
+	PREFIJO("prefijo", 10),
+	ALTA_MASIVA("alta", 5),
+	ACTUALIZACION("actualizacion", 10),
+	BORRADO("borrado", 5);
+
+	private final String nombre;
+	private final int pesoPorDefecto;
+
+	Operacion(String nombre, int pesoPorDefecto) {
+		this.nombre = nombre;
+		this.pesoPorDefecto = pesoPorDefecto;
+	}
+
+	String getNombre() {
+		return nombre;
+	}
+
+	int getPesoPorDefecto() {
+		return pesoPorDefecto;
+	}
+
+	static Operacion porNombre(String nombre) {
+		for (Operacion operacion : values()) {
+			if (operacion.nombre.equals(nombre)) {
+				return operacion;
+			}
+		}
+		throw new IllegalArgumentException("Operación desconocida: " + nombre);
+	}
+}
@@ -0,0 +1,294 @@
+package com.viewnext.kidaprojects.cursosbdd.carga;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.viewnext.kidaprojects.cursosbdd.CursosBddApplication;
+
+/**
+ * Prueba de carga de extremo a extremo de la API de cursos.
+ *
+ * <p>
+ * La clase {@code PruebaCarga} arranca {@code CursosBddApplication} contra una base
+ * de datos H2 en memoria (modo MySQL), la puebla con un catálogo del tamaño
+ * indicado y genera tráfico mixto a una tasa fija en bucle abierto: cada petición
+ * tiene un instante de envío previsto y su latencia se mide desde ese instante, de
+ * modo que las esperas del propio generador no ocultan la degradación del
+ * servidor (omisión coordinada). Al terminar imprime los percentiles p50, p99 y
+ * p999 de cada endpoint, los guarda en {@code target/carga/resultado.properties}
+ * y los compara con la línea base, fallando si alguno empeora más de lo tolerado.
+ * </p>
+ *
+ * <p>
+ * Ejecución: {@code mvn -Pcarga test-compile exec:java [-Dcarga.tasa=500 ...]}
+ * </p>
+ *
+ * <p>
+ * Propiedades del sistema admitidas:
+ * </p>
+ * <ul>
+ * <li>{@code carga.catalogo}: número de cursos iniciales (10000).</li>
+ * <li>{@code carga.tasa}: peticiones por segundo (50).</li>
+ * <li>{@code carga.duracion}: segundos de medición (240). Con la tasa y la
+ * mezcla por defecto son unas 12000 peticiones, suficientes para comparar el
+ * p99 de todas las operaciones y el p999 de la consulta.</li>
+ * <li>{@code carga.calentamiento}: segundos de tráfico previo sin medir (10).</li>
+ * <li>{@code carga.mezcla}: pesos por operación, por ejemplo
+ * {@code consulta:60,rango:10,prefijo:10,alta:5,actualizacion:10,borrado:5}.</li>
+ * <li>{@code carga.lineaBase}: fichero de línea base
+ * ({@code benchmark/carga-linea-base.properties}).</li>
+ * <li>{@code carga.guardarLineaBase}: si es {@code true}, guarda el resultado como
+ * nueva línea base en lugar de comparar. La línea base guarda también el catálogo,
+ * la tasa, la duración, el calentamiento y la mezcla; si la ejecución usa otros
+ * valores no se compara.</li>
+ * <li>{@code carga.tolerancia}: empeoramiento relativo admitido (0.2).</li>
+ * <li>{@code carga.margenMinimoMs}: empeoramiento absoluto ignorado (1).</li>
+ * </ul>
+ */
+public class PruebaCarga {
+
+	private static final String[] TEMAS = { "Java", "Spring", "SQL", "Python", "Docker", "Kubernetes", "Angular",
+			"React", "Linux", "Redes" };
+	private static final int TAMANO_LOTE_INICIAL = 1_000;
+	private static final int CURSOS_POR_ALTA = 10;
+	private static final int ANCHO_RANGO = 20;
+	private static final int PRECIO_MAXIMO = 1_000;
+
+	private final int catalogo = Integer.getInteger("carga.catalogo", 10_000);
+	private final int tasa = Integer.getInteger("carga.tasa", 50);
+	private final int duracion = Integer.getInteger("carga.duracion", 240);
+	private final int calentamiento = Integer.getInteger("carga.calentamiento", 10);
+	private final Path lineaBase = Path.of(System.getProperty("carga.lineaBase", "benchmark/carga-linea-base.properties"));
+	private final boolean guardarLineaBase = Boolean.getBoolean("carga.guardarLineaBase");
+	private final double tolerancia = Double.parseDouble(System.getProperty("carga.tolerancia", "0.2"));
+	private final long margenMinimoMicros = TimeUnit.MILLISECONDS
+			.toMicros(Long.parseLong(System.getProperty("carga.margenMinimoMs", "1")));
+
+	private final Operacion[] ruleta = construirRuleta(System.getProperty("carga.mezcla", ""));
+	private final InformeCarga informe = new InformeCarga();
+	private final Queue<String> codigosCreados = new ConcurrentLinkedQueue<>();
+	private final AtomicLong siguienteCodigo = new AtomicLong();
+	private final AtomicLong pendientes = new AtomicLong();
+
+	private HttpClient cliente;
+	private String urlBase;
+
+	public static void main(String[] args) throws Exception {
+		new PruebaCarga().ejecutar();
+	}
+
+	private void ejecutar() throws Exception {
+		ConfigurableApplicationContext contexto = new SpringApplicationBuilder(CursosBddApplication.class)
+				.profiles("test", "carga")
+				.properties("server.port=0")
+				.run();
+		ExecutorService ejecutorCliente = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		try {
+			int puerto = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+			urlBase = "http://localhost:" + puerto;
+			cliente = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_1_1)
+					.executor(ejecutorCliente)
+					.connectTimeout(Duration.ofSeconds(5))
+					.build();
+
+			poblarCatalogo(contexto.getBean(JdbcTemplate.class));
+			System.out.printf("Catálogo de %d cursos. Generando %d peticiones/s durante %d s (+%d s de calentamiento)%n",
+					catalogo, tasa, duracion, calentamiento);
+
+			generarTrafico();
+		} finally {
+			ejecutorCliente.shutdownNow();
+			contexto.close();
+		}
+
+		informe.imprimir(duracion);
+		informe.guardar(Path.of("target", "carga", "resultado.properties"), configuracion());
+		compararConLineaBase();
+	}
+
+	private void poblarCatalogo(JdbcTemplate jdbcTemplate) {
+		SplittableRandom aleatorio = new SplittableRandom(42);
+		List<Object[]> lote = new ArrayList<>(TAMANO_LOTE_INICIAL);
+		for (int i = 0; i < catalogo; i++) {
+			lote.add(new Object[] { codigoInicial(i), TEMAS[i % TEMAS.length] + " " + i,
+					aleatorio.nextInt(5, 300), aleatorio.nextInt(10, PRECIO_MAXIMO) });
+			if (lote.size() == TAMANO_LOTE_INICIAL || i == catalogo - 1) {
+				jdbcTemplate.batchUpdate("INSERT INTO cursos (codigo, nombre, numero_horas, precio) VALUES (?, ?, ?, ?)",
+						lote);
+				lote.clear();
+			}
+		}
+	}
+
+	private void generarTrafico() throws InterruptedException {
+		SplittableRandom aleatorio = new SplittableRandom();
+		long intervaloNanos = TimeUnit.SECONDS.toNanos(1) / tasa;
+		long inicio = System.nanoTime();
+		long inicioMedicion = inicio + TimeUnit.SECONDS.toNanos(calentamiento);
+		long fin = inicioMedicion + TimeUnit.SECONDS.toNanos(duracion);
+
+		for (long i = 0;; i++) {
+			long previsto = inicio + i * intervaloNanos;
+			if (previsto >= fin) {
+				break;
+			}
+			long espera = previsto - System.nanoTime();
+			if (espera > 0) {
+				LockSupport.parkNanos(espera);
+			}
+
+			Operacion operacion = ruleta[aleatorio.nextInt(ruleta.length)];
+			HttpRequest peticion = construirPeticion(operacion, aleatorio);
+			boolean medir = previsto >= inicioMedicion;
+
+			pendientes.incrementAndGet();
+			cliente.sendAsync(peticion, HttpResponse.BodyHandlers.discarding()).whenComplete((respuesta, error) -> {
+				if (medir) {
+					informe.registrar(operacion, System.nanoTime() - previsto,
+							error == null ? respuesta.statusCode() : -1);
+				}
+				pendientes.decrementAndGet();
+			});
+		}
+
+		long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (pendientes.get() > 0 && System.nanoTime() < limite) {
+			Thread.sleep(10);
+		}
+	}
+
+	private HttpRequest construirPeticion(Operacion operacion, SplittableRandom aleatorio) {
+		switch (operacion) {
+		case CONSULTA:
+			return get("/curso/" + codigoInicial(aleatorio.nextInt(catalogo)));
+		case RANGO:
+			int minimo = aleatorio.nextInt(PRECIO_MAXIMO - ANCHO_RANGO);
+			return get("/cursos/rango?precioMinimo=" + minimo + "&precioMaximo=" + (minimo + ANCHO_RANGO));
+		case PREFIJO:
+			return get("/cursos/nombre/" + TEMAS[aleatorio.nextInt(TEMAS.length)] + "%20" + aleatorio.nextInt(10));
+		case ALTA_MASIVA:
+			StringBuilder cursos = new StringBuilder("[");
+			for (int i = 0; i < CURSOS_POR_ALTA; i++) {
+				String codigo = "N" + siguienteCodigo.incrementAndGet();
+				codigosCreados.add(codigo);
+				cursos.append(i == 0 ? "" : ",").append(json(codigo, aleatorio));
+			}
+			return conCuerpo("POST", "/cursos", cursos.append(']').toString());
+		case ACTUALIZACION:
+			return conCuerpo("PUT", "/curso", json(codigoInicial(aleatorio.nextInt(catalogo)), aleatorio));
+		case BORRADO:
+			String codigo = codigosCreados.poll();
+			return HttpRequest.newBuilder(URI.create(urlBase + "/curso/" + (codigo != null ? codigo : "inexistente")))
+					.DELETE()
+					.build();
+		default:
+			throw new IllegalStateException(operacion.name());
+		}
+	}
+
+	private HttpRequest get(String ruta) {
+		return HttpRequest.newBuilder(URI.create(urlBase + ruta)).GET().build();
+	}
+
+	private HttpRequest conCuerpo(String metodo, String ruta, String cuerpo) {
+		return HttpRequest.newBuilder(URI.create(urlBase + ruta))
+				.header("Content-Type", "application/json")
+				.method(metodo, HttpRequest.BodyPublishers.ofString(cuerpo))
+				.build();
+	}
+
+	private static String json(String codigo, SplittableRandom aleatorio) {
+		return String.format("{\"codigo\":\"%s\",\"nombre\":\"%s %s\",\"numeroHoras\":%d,\"precio\":%d}", codigo,
+				TEMAS[aleatorio.nextInt(TEMAS.length)], codigo, aleatorio.nextInt(5, 300),
+				aleatorio.nextInt(10, PRECIO_MAXIMO));
+	}
+
+	private static String codigoInicial(int indice) {
+		return String.format("C%07d", indice);
+	}
+
+	private void compararConLineaBase() throws Exception {
+		if (guardarLineaBase) {
+			informe.guardar(lineaBase, configuracion());
+			System.out.println("Línea base guardada en " + lineaBase);
+			return;
+		}
+		if (!Files.exists(lineaBase)) {
+			System.out.println("No hay línea base en " + lineaBase
+					+ "; ejecute con -Dcarga.guardarLineaBase=true para crearla");
+			return;
+		}
+		Map<String, String> configuracionBase = InformeCarga.configuracionDe(lineaBase);
+		if (!configuracionBase.equals(configuracion())) {
+			System.out.println("La línea base " + lineaBase + " se midió con " + configuracionBase
+					+ " y esta ejecución usa " + configuracion() + "; no se compara");
+			return;
+		}
+
+		List<String> regresiones = informe.compararCon(lineaBase, tolerancia, margenMinimoMicros);
+		if (!regresiones.isEmpty()) {
+			regresiones.forEach(regresion -> System.out.println("REGRESIÓN " + regresion));
+			throw new IllegalStateException(regresiones.size() + " percentiles empeoran respecto a la línea base");
+		}
+		System.out.println("Sin regresiones respecto a " + lineaBase);
+	}
+
+	private Map<String, String> configuracion() {
+		Map<String, String> configuracion = new TreeMap<>();
+		configuracion.put("catalogo", String.valueOf(catalogo));
+		configuracion.put("tasa", String.valueOf(tasa));
+		configuracion.put("duracion", String.valueOf(duracion));
+		configuracion.put("calentamiento", String.valueOf(calentamiento));
+		configuracion.put("mezcla", System.getProperty("carga.mezcla", ""));
+		return configuracion;
+	}
+
+	private static Operacion[] construirRuleta(String mezcla) {
+		Map<Operacion, Integer> pesos = new EnumMap<>(Operacion.class);
+		for (Operacion operacion : Operacion.values()) {
+			pesos.put(operacion, operacion.getPesoPorDefecto());
+		}
+		if (!mezcla.isBlank()) {
+			pesos.replaceAll((operacion, peso) -> 0);
+			for (String entrada : mezcla.split(",")) {
+				String[] partes = entrada.trim().split(":");
+				pesos.put(Operacion.porNombre(partes[0]), Integer.parseInt(partes[1]));
+			}
+		}
+
+		List<Operacion> ruleta = new ArrayList<>();
+		pesos.forEach((operacion, peso) -> {
+			for (int i = 0; i < peso; i++) {
+				ruleta.add(operacion);
+			}
+		});
+		if (ruleta.isEmpty()) {
+			throw new IllegalArgumentException("La mezcla de tráfico no contiene ninguna operación");
+		}
+		return ruleta.toArray(Operacion[]::new);
+	}
+}
@@ -0,0 +1,208 @@
+package com.viewnext.kidaprojects.cursosbdd.importacion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+import com.viewnext.kidaprojects.cursosbdd.service.CursoService;
+
+class ImportadorCursosTest {
+
+	private final Map<String, Curso> guardados = new ConcurrentHashMap<>();
+	private CursoService cursoService;
+	private ImportadorCursos importador;
+
+	@BeforeEach
+	void preparar() {
+		cursoService = mock(CursoService.class);
+		when(cursoService.crearVariosCursos(anyList())).thenAnswer(invocacion -> {
+			List<Curso> cursos = invocacion.getArgument(0);
+			if (cursos.stream().anyMatch(curso -> curso.getCodigo().startsWith("ROTO"))) {
+				throw new IllegalStateException("Lote rechazado");
+			}
+			cursos.forEach(curso -> guardados.put(curso.getCodigo(), curso));
+			return cursos;
+		});
+		when(cursoService.crearCurso(any())).thenAnswer(invocacion -> {
+			Curso curso = invocacion.getArgument(0);
+			if (curso.getCodigo().startsWith("ROTO")) {
+				throw new IllegalStateException("Curso rechazado");
+			}
+			guardados.put(curso.getCodigo(), curso);
+			return curso;
+		});
+
+		ImportacionProperties propiedades = new ImportacionProperties();
+		propiedades.setTamanoLote(2);
+		propiedades.setLotesEnVuelo(2);
+		importador = new ImportadorCursos(cursoService, new ObjectMapper(), propiedades);
+	}
+
+	@AfterEach
+	void cerrar() {
+		importador.cerrar();
+	}
+
+	@Test
+	void importaCsvYAnotaLasFilasErroneas() throws Exception {
+		String csv = """
+				codigo;precio;numero_horas;nombre
+				C1;100;10;"Java; básico"
+				C2;abc;10;Mal precio
+
+				C3;200;20;Curso 3
+				ROTO1;300;30;Curso roto
+				C5;400;-1;Horas negativas
+				""";
+
+		TrabajoImportacion trabajo = importador.importar(texto(csv), FormatoImportacion.CSV);
+		EstadoImportacion estado = esperar(trabajo);
+
+		assertEquals(EstadoTrabajo.COMPLETADO, estado.estado());
+		assertEquals(5, estado.filasLeidas());
+		assertEquals(2, estado.filasImportadas());
+		assertEquals(3, estado.filasConError());
+		assertEquals(List.of(3L, 6L, 7L), estado.errores().stream().map(EstadoImportacion.ErrorFila::linea).sorted().toList());
+		assertEquals("Java; básico", guardados.get("C1").getNombre());
+		assertTrue(guardados.containsKey("C3"));
+		assertFalse(Files.exists(trabajo.getFichero()));
+	}
+
+	@Test
+	void importaNdjson() throws Exception {
+		String ndjson = """
+				{"codigo":"N1","nombre":"Uno","numeroHoras":1,"precio":10}
+				{"codigo":"N2","nombre":"Dos","numeroHoras":2,"precio":20}
+				no es json
+				{"codigo":"N3","nombre":"Tres","numeroHoras":3,"precio":30}
+				""";
+
+		EstadoImportacion estado = esperar(importador.importar(texto(ndjson), FormatoImportacion.NDJSON));
+
+		assertEquals(EstadoTrabajo.COMPLETADO, estado.estado());
+		assertEquals(3, estado.filasImportadas());
+		assertEquals(1, estado.filasConError());
+		assertEquals(3, estado.errores().get(0).linea());
+		assertEquals(2, estado.lotesEscritos());
+	}
+
+	@Test
+	void cancelaUnTrabajoEnCurso() throws Exception {
+		CountDownLatch bloqueo = new CountDownLatch(1);
+		when(cursoService.crearVariosCursos(anyList())).thenAnswer(invocacion -> {
+			bloqueo.await(5, TimeUnit.SECONDS);
+			return invocacion.getArgument(0);
+		});
+		StringBuilder csv = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			csv.append("C").append(i).append(",Curso ").append(i).append(",10,100\n");
+		}
+
+		TrabajoImportacion trabajo = importador.importar(texto(csv.toString()), FormatoImportacion.CSV);
+		assertTrue(trabajo.cancelar());
+		bloqueo.countDown();
+		EstadoImportacion estado = esperar(trabajo);
+
+		assertEquals(EstadoTrabajo.CANCELADO, estado.estado());
+		assertTrue(estado.filasImportadas() < 1000);
+		assertFalse(trabajo.cancelar());
+	}
+
+	@Test
+	void cerrarConUnLoteBloqueadoTerminaLosTrabajos() throws Exception {
+		CountDownLatch escribiendo = new CountDownLatch(1);
+		CountDownLatch bloqueo = new CountDownLatch(1);
+		when(cursoService.crearVariosCursos(anyList())).thenAnswer(invocacion -> {
+			escribiendo.countDown();
+			bloqueo.await(10, TimeUnit.SECONDS);
+			return invocacion.getArgument(0);
+		});
+		ImportacionProperties propiedades = new ImportacionProperties();
+		propiedades.setHilos(1);
+		propiedades.setTamanoLote(2);
+		propiedades.setLotesEnVuelo(2);
+		propiedades.setPlazoCierre(Duration.ofMillis(200));
+		ImportadorCursos otroImportador = new ImportadorCursos(cursoService, new ObjectMapper(), propiedades);
+		StringBuilder csv = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			csv.append("C").append(i).append(",Curso ").append(i).append(",10,100\n");
+		}
+
+		try {
+			TrabajoImportacion trabajo = otroImportador.importar(texto(csv.toString()), FormatoImportacion.CSV);
+			assertTrue(escribiendo.await(5, TimeUnit.SECONDS));
+			long inicio = System.nanoTime();
+			otroImportador.cerrar();
+
+			assertTrue(System.nanoTime() - inicio < TimeUnit.SECONDS.toNanos(5));
+			assertTrue(trabajo.isTerminado());
+			assertEquals(EstadoTrabajo.FALLIDO, trabajo.estado().estado());
+			assertFalse(Files.exists(trabajo.getFichero()));
+		} finally {
+			bloqueo.countDown();
+		}
+	}
+
+	@Test
+	void rechazaLosFicherosQueSuperanElTamanoMaximo() throws Exception {
+		ImportacionProperties propiedades = new ImportacionProperties();
+		propiedades.setTamanoMaximo(DataSize.ofBytes(20));
+		ImportadorCursos otroImportador = new ImportadorCursos(cursoService, new ObjectMapper(), propiedades);
+		Path temporales = Path.of(System.getProperty("java.io.tmpdir"));
+		long antes = contarTemporales(temporales);
+
+		try {
+			assertThrows(FicheroDemasiadoGrandeException.class, () -> otroImportador
+					.importar(texto("C1,Uno,10,100\nC2,Dos,20,200\n"), FormatoImportacion.CSV));
+			assertEquals(antes, contarTemporales(temporales));
+
+			EstadoImportacion estado = esperar(otroImportador.importar(texto("C1,Uno,10,100\n"), FormatoImportacion.CSV));
+			assertEquals(1, estado.filasImportadas());
+		} finally {
+			otroImportador.cerrar();
+		}
+	}
+
+	private static long contarTemporales(Path directorio) throws IOException {
+		try (Stream<Path> ficheros = Files.list(directorio)) {
+			return ficheros.filter(fichero -> fichero.getFileName().toString().startsWith("cursos-importacion-")).count();
+		}
+	}
+
+	private static ByteArrayInputStream texto(String contenido) {
+		return new ByteArrayInputStream(contenido.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static EstadoImportacion esperar(TrabajoImportacion trabajo) throws InterruptedException {
+		long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!trabajo.isTerminado() && System.nanoTime() < limite) {
+			Thread.sleep(10);
+		}
+		return trabajo.estado();
+	}
+}
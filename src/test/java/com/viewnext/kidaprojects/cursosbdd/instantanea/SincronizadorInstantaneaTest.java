@@ -0,0 +1,161 @@
+package com.viewnext.kidaprojects.cursosbdd.instantanea;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.viewnext.kidaprojects.cursosbdd.analitica.CatalogoColumnar;
+import com.viewnext.kidaprojects.cursosbdd.analitica.ColumnasCursos;
+import com.viewnext.kidaprojects.cursosbdd.event.CursoBorradoEvent;
+import com.viewnext.kidaprojects.cursosbdd.event.CursosGuardadosEvent;
+import com.viewnext.kidaprojects.cursosbdd.model.CriterioTop;
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+import com.viewnext.kidaprojects.cursosbdd.repository.CursoRepository;
+import com.viewnext.kidaprojects.cursosbdd.service.TopCursosEnMemoria;
+
+class SincronizadorInstantaneaTest {
+
+	private static final LocalDateTime REVISION = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+	@TempDir
+	Path directorio;
+
+	private final Map<String, Curso> catalogo = new HashMap<>();
+	private InstantaneaProperties propiedades;
+
+	@BeforeEach
+	void preparar() {
+		for (int i = 0; i < 500; i++) {
+			catalogo.put("C" + i, new Curso("C" + i, i % 3 == 0 ? null : "Curso " + (i % 10), i % 40, 1000 - i));
+		}
+		propiedades = new InstantaneaProperties();
+		propiedades.setFichero(directorio.resolve("cursos.bin"));
+	}
+
+	@Test
+	void arrancaDesdeLaInstantaneaYSePoneAlDia() {
+		Instancia primera = new Instancia(repositorio(REVISION));
+		primera.sincronizador.arrancar();
+		primera.topCursos.top(CriterioTop.PRECIO, true, 5);
+		primera.sincronizador.cerrar();
+		verify(primera.repositorio, times(1)).findAll();
+
+		Curso cambiado = new Curso("C10", "Renombrado", 3, 1);
+		catalogo.put(cambiado.getCodigo(), cambiado);
+		catalogo.remove("C499");
+		CursoRepository segundoRepositorio = repositorio(REVISION.plusMinutes(1));
+		when(segundoRepositorio.findModificadosDesde(REVISION.minus(propiedades.getMargen())))
+				.thenReturn(List.of(cambiado));
+		when(segundoRepositorio.findBorradosDesde(REVISION.minus(propiedades.getMargen())))
+				.thenReturn(List.of("C499", "C10"));
+
+		Instancia segunda = new Instancia(segundoRepositorio);
+		segunda.sincronizador.arrancar();
+
+		verify(segundoRepositorio, never()).findAll();
+		assertEquals(catalogo.size(), segunda.catalogoColumnar.getNumeroCursos());
+		assertEquals(primera.catalogoColumnar.contarPorRangoHoras(0, 100, "Curso 1").cursos(),
+				segunda.catalogoColumnar.contarPorRangoHoras(0, 100, "Curso 1").cursos());
+		assertEquals(List.of("C10", "C498", "C497"), segunda.topCursos.top(CriterioTop.PRECIO, true, 3).stream()
+				.map(Curso::getCodigo).toList());
+		verify(segundoRepositorio, never()).findTop(any(), anyBoolean(), anyInt());
+		assertEquals(REVISION.plusMinutes(1), segunda.sincronizador.getRevision());
+	}
+
+	@Test
+	void cargaDeLaBaseDeDatosSiLaInstantaneaNoEsValida() throws Exception {
+		Files.write(propiedades.getFichero(), new byte[100]);
+
+		Instancia instancia = new Instancia(repositorio(REVISION));
+		instancia.sincronizador.arrancar();
+
+		verify(instancia.repositorio, times(1)).findAll();
+		assertEquals(catalogo.size(), instancia.catalogoColumnar.getNumeroCursos());
+		assertEquals(REVISION, FicheroInstantanea.leer(propiedades.getFichero()).revision());
+	}
+
+	@Test
+	void lasColumnasDelFicheroQuedanAlineadasYEnOrdenNativo() throws Exception {
+		new Instancia(repositorio(REVISION)).sincronizador.arrancar();
+
+		ColumnasCursos columnas = FicheroInstantanea.leer(propiedades.getFichero()).cursos();
+		assertEquals(0, FicheroInstantanea.CABECERA % Long.BYTES);
+		assertEquals(ByteOrder.nativeOrder(), columnas.precios().order());
+		for (int fila = 0; fila < columnas.tamano(); fila++) {
+			Curso curso = catalogo.get(columnas.codigos().get(fila));
+			assertEquals(curso.getPrecio(), columnas.precios().get(fila));
+			assertEquals(curso.getNumeroHoras(), columnas.horas().get(fila));
+		}
+	}
+
+	@Test
+	void descartaLasInstantaneasAnterioresALaRetencionDeBorrados() {
+		new Instancia(repositorio(REVISION)).sincronizador.arrancar();
+
+		Instancia instancia = new Instancia(repositorio(REVISION.plus(propiedades.getRetencionBorrados())));
+		instancia.sincronizador.arrancar();
+
+		verify(instancia.repositorio, times(1)).findAll();
+		assertTrue(instancia.catalogoColumnar.getNumeroCursos() > 0);
+	}
+
+	private CursoRepository repositorio(LocalDateTime ahora) {
+		CursoRepository repositorio = mock(CursoRepository.class);
+		when(repositorio.findAll()).thenAnswer(invocacion -> new ArrayList<>(catalogo.values()));
+		when(repositorio.findTop(any(), anyBoolean(), anyInt())).thenAnswer(invocacion -> {
+			CriterioTop criterio = invocacion.getArgument(0);
+			return catalogo.values().stream().filter(criterio::admite)
+					.sorted(criterio.orden(invocacion.getArgument(1))).limit((int) invocacion.getArgument(2))
+					.toList();
+		});
+		when(repositorio.findMarcaTiempo()).thenReturn(ahora);
+		return repositorio;
+	}
+
+	/**
+	 * Las estructuras en memoria y el sincronizador de una instancia de la aplicación.
+	 */
+	private final class Instancia {
+
+		private final CursoRepository repositorio;
+		private final CatalogoColumnar catalogoColumnar = new CatalogoColumnar(16);
+		private final TopCursosEnMemoria topCursos = new TopCursosEnMemoria(10);
+		private final SincronizadorInstantanea sincronizador;
+
+		Instancia(CursoRepository repositorio) {
+			this.repositorio = repositorio;
+			ReflectionTestUtils.setField(catalogoColumnar, "cursoRepository", repositorio);
+			ReflectionTestUtils.setField(topCursos, "cursoRepository", repositorio);
+			sincronizador = new SincronizadorInstantanea(repositorio, evento -> {
+				if (evento instanceof CursosGuardadosEvent guardados) {
+					catalogoColumnar.alGuardar(guardados);
+					topCursos.alGuardar(guardados);
+				} else if (evento instanceof CursoBorradoEvent borrado) {
+					catalogoColumnar.alBorrar(borrado);
+					topCursos.alBorrar(borrado);
+				}
+			}, propiedades, catalogoColumnar, topCursos);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.viewnext.kidaprojects.cursosbdd.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Guarda las sentencias SQL que genera Hibernate para poder pedir su plan de
+ * ejecución. Hibernate crea la instancia a partir del nombre de la clase, por eso
+ * las sentencias se guardan en un campo estático.
+ */
+public class CapturadorSql implements StatementInspector {
+
+	private static final List<String> SENTENCIAS = new ArrayList<>();
+
+	@Override
+	public String inspect(String sql) {
+		synchronized (SENTENCIAS) {
+			SENTENCIAS.add(sql);
+		}
+		return sql;
+	}
+
+	static List<String> recoger() {
+		synchronized (SENTENCIAS) {
+			List<String> sentencias = new ArrayList<>(SENTENCIAS);
+			SENTENCIAS.clear();
+			return sentencias;
+		}
+	}
+}
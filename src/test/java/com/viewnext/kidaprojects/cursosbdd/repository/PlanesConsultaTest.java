@@ -0,0 +1,159 @@
+package com.viewnext.kidaprojects.cursosbdd.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.viewnext.kidaprojects.cursosbdd.model.CriterioTop;
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+
+/**
+ * Pide a H2, en modo MySQL y con el esquema de las migraciones de Flyway, el plan
+ * de cada consulta de {@link CursoRepository} y falla si alguna recorre la tabla
+ * entera en lugar de usar un índice.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.viewnext.kidaprojects.cursosbdd.repository.CapturadorSql")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class PlanesConsultaTest {
+
+	@Autowired
+	private CursoRepository cursoRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private static final Pattern ORDEN = Pattern.compile("(?i)\\border by (.+?)(?= limit | offset |$)");
+	private static final Pattern DESCENDENTE = Pattern.compile("(?i)\\s+desc\\b");
+
+	private static final LocalDateTime REVISION = LocalDateTime.of(2026, 10, 18, 0, 0);
+
+	static Stream<Arguments> consultas() {
+		return Stream.of(
+				consulta("findById", repositorio -> repositorio.findById("C1"), "C1"),
+				consulta("findByPrecioBetween", repositorio -> repositorio.findByPrecioBetween(100, 200), 100, 200),
+				consulta("findByNombreLike", repositorio -> repositorio.findCursosByNombreStartingWith("Ja"), "Ja%"),
+				consulta("findAllBy", repositorio -> repositorio.findTop(CriterioTop.PRECIO, true, 10), 0, 10),
+				consulta("findAllBy", repositorio -> repositorio.findTop(CriterioTop.PRECIO, false, 10), 0, 10),
+				consulta("findAllBy", repositorio -> repositorio.findTop(CriterioTop.HORAS, true, 10), 0, 10),
+				consulta("findAllBy", repositorio -> repositorio.findTop(CriterioTop.HORAS, false, 10), 0, 10),
+				consulta("findByPrecioPorHoraAsc", repositorio -> repositorio.findTop(CriterioTop.PRECIO_POR_HORA, true, 10), 10),
+				consulta("findByPrecioPorHoraDesc", repositorio -> repositorio.findTop(CriterioTop.PRECIO_POR_HORA, false, 10), 10),
+				consulta("findModificadosDesde", repositorio -> repositorio.findModificadosDesde(REVISION), REVISION),
+				consulta("findBorradosDesde", repositorio -> repositorio.findBorradosDesde(REVISION), REVISION),
+				consulta("registrarBorrado", repositorio -> repositorio.registrarBorrado("C1"), "C1"),
+				consulta("purgarBorrados", repositorio -> repositorio.purgarBorrados(REVISION), REVISION),
+				consulta("findMarcaTiempo", CursoRepository::findMarcaTiempo));
+	}
+
+	private static Arguments consulta(String metodo, Consumer<CursoRepository> ejecucion, Object... parametros) {
+		return Arguments.of(metodo, ejecucion, parametros);
+	}
+
+	@BeforeEach
+	void preparar() {
+		List<Curso> cursos = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			cursos.add(new Curso("C" + i, (i % 2 == 0 ? "Java " : "Spring ") + i, i % 7, 50 + i * 3));
+		}
+		cursoRepository.saveAllAndFlush(cursos);
+		entityManager.clear();
+		CapturadorSql.recoger();
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("consultas")
+	void ningunaConsultaRecorreLaTablaEntera(String metodo, Consumer<CursoRepository> ejecucion, Object[] parametros) {
+		ejecucion.accept(cursoRepository);
+		List<String> sentencias = CapturadorSql.recoger();
+		assertFalse(sentencias.isEmpty(), metodo + " no ha lanzado ninguna consulta");
+
+		for (String sql : sentencias) {
+			assertEquals(parametros.length, sql.chars().filter(caracter -> caracter == '?').count(),
+					"Parámetros de ejemplo incorrectos para " + sql);
+			String plan = jdbcTemplate.queryForObject("EXPLAIN " + haciaDelante(sql), String.class, parametros);
+			assertFalse(plan.contains("tableScan"), metodo + " recorre la tabla entera:\n" + plan);
+		}
+	}
+
+	/**
+	 * H2 no recorre los índices hacia atrás, pero MySQL sí: una ordenación toda
+	 * descendente usa el mismo índice que la ascendente. Se pide el plan de esta.
+	 */
+	static String haciaDelante(String sql) {
+		Matcher orden = ORDEN.matcher(sql);
+		if (!orden.find() || !Arrays.stream(orden.group(1).split(","))
+				.allMatch(termino -> DESCENDENTE.matcher(termino).find())) {
+			return sql;
+		}
+		return sql.substring(0, orden.start(1)) + DESCENDENTE.matcher(orden.group(1)).replaceAll(" asc")
+				+ sql.substring(orden.end(1));
+	}
+
+	@Test
+	void soloSeDaLaVueltaALasOrdenacionesTodasDescendentes() {
+		assertEquals("select * from cursos order by precio asc,codigo asc limit ?",
+				haciaDelante("select * from cursos order by precio desc,codigo desc limit ?"));
+		String mixta = "select * from cursos order by precio desc,codigo asc limit ?";
+		assertEquals(mixta, haciaDelante(mixta));
+	}
+
+	@Test
+	void elPrefijoDeNombreNoAdmiteComodines() {
+		assertEquals(100, cursoRepository.findCursosByNombreStartingWith("Java").size());
+		assertTrue(cursoRepository.findCursosByNombreStartingWith("%").isEmpty());
+		assertTrue(cursoRepository.findCursosByNombreStartingWith("_").isEmpty());
+		assertTrue(cursoRepository.findCursosByNombreStartingWith("Ja_a").isEmpty());
+	}
+
+	@Test
+	void elGuardadoEnLoteNoConsultaAntesDeEscribir() {
+		cursoRepository.guardarEnLote(List.of(new Curso("C1", "Renombrado", 40, 99), new Curso("NUEVO", "Nuevo", 10, 20)));
+
+		assertTrue(CapturadorSql.recoger().isEmpty(), "El guardado en lote ha pasado por Hibernate");
+		assertEquals("Renombrado", jdbcTemplate.queryForObject("SELECT nombre FROM cursos WHERE codigo = 'C1'", String.class));
+		assertEquals(20, jdbcTemplate.queryForObject("SELECT precio FROM cursos WHERE codigo = 'NUEVO'", Integer.class));
+		assertEquals(201, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cursos", Integer.class));
+	}
+
+	@Test
+	void todasLasConsultasDelRepositorioTienenPlanComprobado() {
+		Set<String> comprobadas = consultas().map(argumentos -> (String) argumentos.get()[0])
+				.collect(Collectors.toSet());
+		Set<String> declaradas = Arrays.stream(CursoRepository.class.getDeclaredMethods())
+				.filter(metodo -> !metodo.isDefault())
+				.map(Method::getName)
+				.collect(Collectors.toCollection(TreeSet::new));
+		declaradas.removeAll(comprobadas);
+		assertTrue(declaradas.isEmpty(), "Consultas sin plan comprobado: " + declaradas);
+	}
+}
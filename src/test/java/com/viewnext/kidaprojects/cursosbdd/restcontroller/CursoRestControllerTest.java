@@ -0,0 +1,53 @@
+package com.viewnext.kidaprojects.cursosbdd.restcontroller;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.viewnext.kidaprojects.cursosbdd.service.CursoService;
+
+class CursoRestControllerTest {
+
+	private CursoService cursoService;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void preparar() {
+		cursoService = mock(CursoService.class);
+		when(cursoService.crearVariosCursos(anyList())).thenAnswer(invocacion -> invocacion.getArgument(0));
+		CursoRestController controlador = new CursoRestController();
+		ReflectionTestUtils.setField(controlador, "cursoService", cursoService);
+		mockMvc = MockMvcBuilders.standaloneSetup(controlador).build();
+	}
+
+	@Test
+	void crearVariosCursosConUnaListaVaciaEsUnaPeticionIncorrecta() throws Exception {
+		mockMvc.perform(post("/cursos").contentType(MediaType.APPLICATION_JSON).content("[]"))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string(startsWith("Formato de argumento")));
+
+		verify(cursoService, never()).crearVariosCursos(anyList());
+	}
+
+	@Test
+	void crearVariosCursosDevuelveLosCursosCreados() throws Exception {
+		mockMvc.perform(post("/cursos").contentType(MediaType.APPLICATION_JSON)
+				.content("[{\"codigo\":\"C1\",\"nombre\":\"Uno\",\"numeroHoras\":10,\"precio\":100}]"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].codigo").value("C1"));
+	}
+}
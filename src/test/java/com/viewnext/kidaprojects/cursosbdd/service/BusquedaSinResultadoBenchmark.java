@@ -0,0 +1,110 @@
+package com.viewnext.kidaprojects.cursosbdd.service;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+import com.viewnext.kidaprojects.cursosbdd.repository.CursoRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Microbenchmark del camino "no encontrado" de {@code CursoServiceImpl}.
+ *
+ * <p>
+ * Compara las búsquedas sin resultado tal y como las resuelve ahora el servicio
+ * ({@code Optional} vacío o lista vacía) con el contrato anterior, en el que se
+ * lanzaba y capturaba una {@code EntityNotFoundException}. El repositorio es un
+ * doble en memoria que nunca encuentra nada, de modo que solo se mide el coste
+ * del propio servicio.
+ * </p>
+ *
+ * <p>
+ * Ejecución: {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=BusquedaSinResultado}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusquedaSinResultadoBenchmark {
+
+	private static final String CODIGO_INEXISTENTE = "no-existe";
+
+	private CursoServiceImpl cursoService;
+
+	@Setup
+	public void preparar() {
+		cursoService = new CursoServiceImpl();
+		ReflectionTestUtils.setField(cursoService, "cursoRepository", repositorioVacio());
+		ReflectionTestUtils.setField(cursoService, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(cursoService, "maxConsultasEnVuelo", 1000);
+		cursoService.inicializarCoalescedores();
+	}
+
+	@Benchmark
+	public boolean codigoInexistente() {
+		return cursoService.mostrarCursoByCodigo(CODIGO_INEXISTENTE).isPresent();
+	}
+
+	@Benchmark
+	public boolean codigoInexistenteConExcepcion() {
+		try {
+			return cursoService.findById(CODIGO_INEXISTENTE).orElseThrow(EntityNotFoundException::new) != null;
+		} catch (EntityNotFoundException e) {
+			return false;
+		}
+	}
+
+	@Benchmark
+	public boolean rangoVacio() {
+		return cursoService.mostrarCursosPorRangoPrecio(1, 2).isEmpty();
+	}
+
+	@Benchmark
+	public boolean rangoVacioConExcepcion() {
+		try {
+			List<Curso> cursos = cursoService.findByPrecioBetween(1, 2);
+			if (cursos.isEmpty()) {
+				throw new EntityNotFoundException();
+			}
+			return false;
+		} catch (EntityNotFoundException e) {
+			return true;
+		}
+	}
+
+	private static CursoRepository repositorioVacio() {
+		return (CursoRepository) Proxy.newProxyInstance(CursoRepository.class.getClassLoader(),
+				new Class<?>[] { CursoRepository.class }, (proxy, metodo, argumentos) -> {
+					Class<?> tipo = metodo.getReturnType();
+					if (tipo == Optional.class) {
+						return Optional.empty();
+					}
+					if (tipo == List.class) {
+						return List.of();
+					}
+					if (tipo == boolean.class) {
+						return false;
+					}
+					throw new UnsupportedOperationException(metodo.getName());
+				});
+	}
+}
@@ -0,0 +1,95 @@
+package com.viewnext.kidaprojects.cursosbdd.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CoalescedorConsultasTest {
+
+	private static final int HILOS = 8;
+
+	@Test
+	void lasConsultasIdenticasEnVueloCompartenUnaEjecucion() throws Exception {
+		SimpleMeterRegistry registro = new SimpleMeterRegistry();
+		CoalescedorConsultas<String, String> coalescedor = new CoalescedorConsultas<>("prueba", 100, registro);
+		AtomicInteger ejecuciones = new AtomicInteger();
+		CountDownLatch liberarConsulta = new CountDownLatch(1);
+
+		ExecutorService ejecutor = Executors.newFixedThreadPool(HILOS);
+		try {
+			List<Future<String>> resultados = new ArrayList<>();
+			for (int i = 0; i < HILOS; i++) {
+				resultados.add(ejecutor.submit(() -> coalescedor.ejecutar("clave", () -> {
+					ejecuciones.incrementAndGet();
+					esperar(liberarConsulta);
+					return "resultado";
+				})));
+			}
+			while (registro.counter("cursos.coalescencia.colapsadas", "consulta", "prueba").count() < HILOS - 1) {
+				Thread.onSpinWait();
+			}
+			liberarConsulta.countDown();
+
+			for (Future<String> resultado : resultados) {
+				assertEquals("resultado", resultado.get(5, TimeUnit.SECONDS));
+			}
+		} finally {
+			ejecutor.shutdownNow();
+		}
+
+		assertEquals(1, ejecuciones.get());
+		assertEquals(1, registro.counter("cursos.coalescencia.ejecutadas", "consulta", "prueba").count());
+	}
+
+	@Test
+	void unaVezTerminadaLaConsultaSeVuelveAEjecutar() {
+		CoalescedorConsultas<String, Integer> coalescedor = new CoalescedorConsultas<>("prueba", 100,
+				new SimpleMeterRegistry());
+		AtomicInteger ejecuciones = new AtomicInteger();
+
+		coalescedor.ejecutar("clave", ejecuciones::incrementAndGet);
+		coalescedor.ejecutar("clave", ejecuciones::incrementAndGet);
+
+		assertEquals(2, ejecuciones.get());
+	}
+
+	@Test
+	void sinCapacidadEjecutaDirectamente() {
+		SimpleMeterRegistry registro = new SimpleMeterRegistry();
+		CoalescedorConsultas<String, String> coalescedor = new CoalescedorConsultas<>("prueba", 0, registro);
+
+		assertEquals("valor", coalescedor.ejecutar("clave", () -> "valor"));
+		assertEquals(1, registro.counter("cursos.coalescencia.sin.coalescer", "consulta", "prueba").count());
+	}
+
+	@Test
+	void propagaLaExcepcionDeLaConsulta() {
+		CoalescedorConsultas<String, String> coalescedor = new CoalescedorConsultas<>("prueba", 100,
+				new SimpleMeterRegistry());
+
+		assertThrows(IllegalStateException.class, () -> coalescedor.ejecutar("clave", () -> {
+			throw new IllegalStateException();
+		}));
+		assertEquals("valor", coalescedor.ejecutar("clave", () -> "valor"));
+	}
+
+	private static void esperar(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
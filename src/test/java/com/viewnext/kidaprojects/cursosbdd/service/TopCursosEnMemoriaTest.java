@@ -0,0 +1,97 @@
+package com.viewnext.kidaprojects.cursosbdd.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.viewnext.kidaprojects.cursosbdd.event.CursoBorradoEvent;
+import com.viewnext.kidaprojects.cursosbdd.event.CursosGuardadosEvent;
+import com.viewnext.kidaprojects.cursosbdd.model.CriterioTop;
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+import com.viewnext.kidaprojects.cursosbdd.repository.CursoRepository;
+
+class TopCursosEnMemoriaTest {
+
+	private static final int CAPACIDAD = 10;
+
+	private final Map<String, Curso> catalogo = new HashMap<>();
+	private CursoRepository cursoRepository;
+	private TopCursosEnMemoria topCursos;
+
+	@BeforeEach
+	void preparar() {
+		cursoRepository = mock(CursoRepository.class);
+		when(cursoRepository.findTop(any(), anyBoolean(), anyInt())).thenAnswer(invocacion -> topReal(
+				invocacion.getArgument(0), invocacion.getArgument(1), invocacion.getArgument(2)));
+		topCursos = new TopCursosEnMemoria(CAPACIDAD);
+		ReflectionTestUtils.setField(topCursos, "cursoRepository", cursoRepository);
+	}
+
+	@Test
+	void sirveDesdeMemoriaTrasLaPrimeraCarga() {
+		for (int i = 0; i < 50; i++) {
+			guardar(new Curso("C" + i, "Curso " + i, i + 1, 1000 - i));
+		}
+
+		assertEquals(topReal(CriterioTop.PRECIO, true, 5).toString(), topCursos.top(CriterioTop.PRECIO, true, 5).toString());
+		guardar(new Curso("BARATO", "Curso barato", 10, 1));
+		assertEquals(topReal(CriterioTop.PRECIO, true, 5).toString(), topCursos.top(CriterioTop.PRECIO, true, 5).toString());
+
+		verify(cursoRepository, times(1)).findTop(CriterioTop.PRECIO, true, CAPACIDAD);
+	}
+
+	@Test
+	void coincideConLaOrdenacionCompletaTrasEscriturasAleatorias() {
+		Random aleatorio = new Random(7);
+		for (int i = 0; i < 40; i++) {
+			guardar(new Curso("C" + i, "Curso " + i, aleatorio.nextInt(5), aleatorio.nextInt(100)));
+		}
+
+		for (int paso = 0; paso < 2_000; paso++) {
+			String codigo = "C" + aleatorio.nextInt(60);
+			if (aleatorio.nextInt(4) == 0) {
+				catalogo.remove(codigo);
+				topCursos.alBorrar(new CursoBorradoEvent(codigo));
+			} else {
+				guardar(new Curso(codigo, "Curso " + codigo, aleatorio.nextInt(5), aleatorio.nextInt(100)));
+			}
+
+			CriterioTop criterio = CriterioTop.values()[aleatorio.nextInt(CriterioTop.values().length)];
+			boolean ascendente = aleatorio.nextBoolean();
+			int n = 1 + aleatorio.nextInt(CAPACIDAD);
+			assertEquals(topReal(criterio, ascendente, n).toString(), topCursos.top(criterio, ascendente, n).toString(),
+					"Paso " + paso + ": " + criterio + (ascendente ? " asc" : " desc") + " n=" + n);
+		}
+	}
+
+	private void guardar(Curso curso) {
+		catalogo.put(curso.getCodigo(), curso);
+		topCursos.alGuardar(new CursosGuardadosEvent(List.of(curso)));
+	}
+
+	private List<Curso> topReal(CriterioTop criterio, boolean ascendente, int n) {
+		List<Curso> cursos = new ArrayList<>();
+		for (Curso curso : catalogo.values()) {
+			if (criterio.admite(curso)) {
+				cursos.add(new Curso(curso.getCodigo(), curso.getNombre(), curso.getNumeroHoras(), curso.getPrecio()));
+			}
+		}
+		cursos.sort(criterio.orden(ascendente));
+		return new ArrayList<>(cursos.subList(0, Math.min(n, cursos.size())));
+	}
+}
@@ -0,0 +1,212 @@
+package com.viewnext.kidaprojects.cursosbdd.sharding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.viewnext.kidaprojects.cursosbdd.model.CriterioTop;
+import com.viewnext.kidaprojects.cursosbdd.model.Curso;
+
+class CursoRepositoryFragmentadoTest {
+
+	private static final int FRAGMENTOS = 3;
+
+	private final Map<String, Curso> catalogo = new HashMap<>();
+	private final List<JdbcTemplate> bases = new ArrayList<>();
+	private ExecutorService ejecutor;
+	private CursoRepositoryFragmentado repositorio;
+
+	@BeforeEach
+	void preparar() {
+		List<DataSource> fuentes = new ArrayList<>();
+		for (int i = 0; i < FRAGMENTOS; i++) {
+			JdbcDataSource fuente = new JdbcDataSource();
+			fuente.setURL("jdbc:h2:mem:fragmento" + i + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+			JdbcTemplate base = new JdbcTemplate(fuente);
+			base.execute("DROP ALL OBJECTS");
+			Flyway.configure().dataSource(fuente).load().migrate();
+			bases.add(base);
+			fuentes.add(fuente);
+		}
+		ejecutor = Executors.newFixedThreadPool(FRAGMENTOS);
+		repositorio = new CursoRepositoryFragmentado(fuentes, ejecutor);
+
+		Random aleatorio = new Random(11);
+		List<Curso> cursos = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			cursos.add(new Curso("C" + i, (i % 2 == 0 ? "Java " : "Spring ") + i, aleatorio.nextInt(6),
+					aleatorio.nextInt(500)));
+		}
+		repositorio.saveAll(cursos);
+		cursos.forEach(curso -> catalogo.put(curso.getCodigo(), curso));
+	}
+
+	@AfterEach
+	void cerrar() {
+		ejecutor.shutdown();
+	}
+
+	@Test
+	void cadaCursoVaAUnSoloFragmento() {
+		int total = 0;
+		for (int i = 0; i < FRAGMENTOS; i++) {
+			List<String> codigos = bases.get(i).queryForList("SELECT codigo FROM cursos", String.class);
+			assertFalse(codigos.isEmpty(), "Fragmento " + i + " vacío");
+			for (String codigo : codigos) {
+				assertEquals(i, repositorio.fragmentoDe(codigo));
+			}
+			total += codigos.size();
+		}
+		assertEquals(catalogo.size(), total);
+		assertEquals(catalogo.size(), repositorio.count());
+	}
+
+	@Test
+	void guardarActualizaYBorrarPorCodigo() {
+		repositorio.save(new Curso("C7", "Renombrado", 40, 99));
+		assertEquals("Renombrado", repositorio.findById("C7").orElseThrow().getNombre());
+		assertEquals(catalogo.size(), repositorio.count());
+
+		repositorio.deleteById("C7");
+		assertTrue(repositorio.findById("C7").isEmpty());
+		assertEquals(catalogo.size() - 1, repositorio.count());
+	}
+
+	@Test
+	void dosAltasSimultaneasDelMismoCodigoNoChocan() throws Exception {
+		for (int i = 0; i < 50; i++) {
+			String codigo = "NUEVO" + i;
+			CyclicBarrier salida = new CyclicBarrier(2);
+			List<Future<Curso>> altas = new ArrayList<>();
+			for (int hilo = 0; hilo < 2; hilo++) {
+				Curso curso = new Curso(codigo, "Alta " + hilo, hilo, hilo);
+				altas.add(ejecutor.submit(() -> {
+					salida.await();
+					return repositorio.save(curso);
+				}));
+			}
+			for (Future<Curso> alta : altas) {
+				alta.get(10, TimeUnit.SECONDS);
+			}
+			assertTrue(repositorio.findById(codigo).orElseThrow().getNombre().startsWith("Alta "));
+		}
+		assertEquals(catalogo.size() + 50, repositorio.count());
+	}
+
+	@Test
+	void lasConsultasDifundidasJuntanTodosLosFragmentos() {
+		List<String> rango = codigos(repositorio.findByPrecioBetween(100, 200));
+		List<String> rangoReal = codigos(catalogo.values().stream()
+				.filter(curso -> curso.getPrecio() >= 100 && curso.getPrecio() <= 200).toList());
+		assertEquals(rangoReal, rango);
+
+		List<String> prefijo = codigos(repositorio.findCursosByNombreStartingWith("Java"));
+		List<String> prefijoReal = codigos(catalogo.values().stream()
+				.filter(curso -> curso.getNombre().startsWith("Java")).toList());
+		assertEquals(prefijoReal, prefijo);
+		assertTrue(repositorio.findCursosByNombreStartingWith("Ja_a").isEmpty());
+	}
+
+	@Test
+	void lasConsultasOrdenadasMezclanLosFragmentos() {
+		for (CriterioTop criterio : CriterioTop.values()) {
+			for (boolean ascendente : new boolean[] { true, false }) {
+				List<Curso> esperados = catalogo.values().stream().filter(criterio::admite)
+						.sorted(criterio.orden(ascendente)).limit(25).toList();
+				assertEquals(esperados.toString(), repositorio.findTop(criterio, ascendente, 25).toString(),
+						criterio + (ascendente ? " asc" : " desc"));
+			}
+		}
+
+		Comparator<Curso> porPrecio = Comparator.comparingInt(Curso::getPrecio).reversed()
+				.thenComparing(Curso::getCodigo);
+		List<Curso> segundaPagina = catalogo.values().stream().sorted(porPrecio).skip(20).limit(20).toList();
+		assertEquals(segundaPagina.toString(), repositorio.findAllBy(PageRequest.of(1, 20,
+				Sort.by(Sort.Order.desc("precio"), Sort.Order.asc("codigo")))).toString());
+	}
+
+	@Test
+	void laMezclaOrdenaLosTextosComoLosFragmentos() {
+		List<String> nombres = List.of("árbol", "Árbol", "arbol", "Zeta", "zeta", "Ñandú", "nube", "Éter", "eter",
+				"alfa", "Alfa", "\uFFFD", "\uD83D\uDE00");
+		for (int i = 0; i < nombres.size(); i++) {
+			// Códigos que sólo difieren en mayúsculas y acentos para el desempate.
+			String codigo = (i % 2 == 0 ? "x" : "X") + (i % 3 == 0 ? "é" : "e") + i;
+			Curso curso = new Curso(codigo, nombres.get(i), 10, 100);
+			repositorio.save(curso);
+			catalogo.put(codigo, curso);
+		}
+
+		Comparator<Curso> porNombre = Comparator.comparing(Curso::getNombre)
+				.thenComparing(Curso::getCodigo, Comparator.reverseOrder());
+		List<Curso> esperados = catalogo.values().stream().sorted(porNombre).toList();
+		assertEquals(esperados.toString(),
+				repositorio.findAll(Sort.by(Sort.Order.asc("nombre"), Sort.Order.desc("codigo"))).toString());
+
+		// Todos valen 10 por hora: el desempate por código decide el orden de la página.
+		Comparator<Curso> porPrecioPorHora = CriterioTop.PRECIO_POR_HORA.orden(false);
+		List<Curso> pagina = catalogo.values().stream().filter(CriterioTop.PRECIO_POR_HORA::admite)
+				.filter(curso -> curso.getPrecio() == 10 * curso.getNumeroHoras()).sorted(porPrecioPorHora)
+				.limit(30).toList();
+		List<Curso> desdeFragmentos = repositorio.findByPrecioPorHoraDesc(PageRequest.of(0, 300)).stream()
+				.filter(curso -> curso.getPrecio() == 10 * curso.getNumeroHoras()).limit(30).toList();
+		assertEquals(pagina.toString(), desdeFragmentos.toString());
+	}
+
+	@Test
+	void losPuntosDeCodigoOrdenanLosCaracteresFueraDelPlanoBasico() {
+		// UTF-16 pone el emoji (sustitutos 0xD83D...) antes que U+FFFD; por punto de código va después.
+		assertTrue("\uD83D\uDE00".compareTo("\uFFFD") < 0);
+		assertTrue(CursoRepositoryFragmentado.compararPuntosCodigo("\uD83D\uDE00", "\uFFFD") > 0);
+		assertTrue(CursoRepositoryFragmentado.compararPuntosCodigo("Zeta", "árbol") < 0);
+		assertEquals(0, CursoRepositoryFragmentado.compararPuntosCodigo("Ñandú", "Ñandú"));
+	}
+
+	@Test
+	void lasRevisionesRecogenCambiosYBorradosDeTodosLosFragmentos() throws InterruptedException {
+		LocalDateTime marca = repositorio.findMarcaTiempo();
+		Thread.sleep(5);
+		assertTrue(repositorio.findModificadosDesde(marca).isEmpty());
+
+		repositorio.save(new Curso("C1", "Renombrado", 40, 99));
+		repositorio.save(new Curso("NUEVO", "Nuevo", 10, 20));
+		repositorio.deleteById("C2");
+		repositorio.registrarBorrado("C2");
+		repositorio.deleteById("C3");
+		repositorio.registrarBorrado("C3");
+		repositorio.save(new Curso("C3", "Recreado", 1, 1));
+
+		assertEquals(List.of("C1", "C3", "NUEVO"), codigos(repositorio.findModificadosDesde(marca)));
+		assertEquals(List.of("C2", "C3"), repositorio.findBorradosDesde(marca).stream().sorted().toList());
+		assertEquals(2, repositorio.purgarBorrados(repositorio.findMarcaTiempo().plusSeconds(1)));
+		assertTrue(repositorio.findBorradosDesde(marca).isEmpty());
+	}
+
+	private static List<String> codigos(List<Curso> cursos) {
+		return cursos.stream().map(Curso::getCodigo).sorted().toList();
+	}
+}
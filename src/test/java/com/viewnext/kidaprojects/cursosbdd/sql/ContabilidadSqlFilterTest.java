@@ -0,0 +1,97 @@
+package com.viewnext.kidaprojects.cursosbdd.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+class ContabilidadSqlFilterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ContabilidadSqlProperties propiedades = new ContabilidadSqlProperties();
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void preparar() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:contabilidad;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+		DataSource dataSource = new InstrumentadorSql(Duration.ofSeconds(10)).envolver(h2);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("DROP TABLE IF EXISTS cursos");
+		jdbcTemplate.execute("CREATE TABLE cursos (codigo VARCHAR(255) PRIMARY KEY, precio INT NOT NULL)");
+		jdbcTemplate.batchUpdate("INSERT INTO cursos VALUES (?, ?)",
+				List.of(new Object[] { "A", 10 }, new Object[] { "B", 20 }, new Object[] { "C", 30 }));
+	}
+
+	@Test
+	void cuentaSentenciasYFilasDeLaPeticion() throws Exception {
+		propiedades.setCabeceras(true);
+		propiedades.setPresupuestoSentencias(1);
+		ContabilidadSqlFilter filtro = new ContabilidadSqlFilter(propiedades, meterRegistry);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/cursos");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain cadena = (peticion, respuesta) -> {
+			peticion.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/cursos");
+			jdbcTemplate.queryForList("SELECT codigo FROM cursos WHERE precio >= ?", String.class, 0);
+			jdbcTemplate.batchUpdate("UPDATE cursos SET precio = ? WHERE codigo = ?",
+					List.of(new Object[] { 11, "A" }, new Object[] { 21, "B" }));
+			respuesta.getWriter().write("[]");
+		};
+		filtro.doFilter(request, response, cadena);
+
+		assertEquals("3", response.getHeader("X-Sql-Sentencias"));
+		assertEquals("3", response.getHeader("X-Sql-Filas"));
+		assertEquals("[]", response.getContentAsString());
+		assertEquals(3.0, meterRegistry.get("cursos.sql.sentencias").tags("metodo", "GET", "uri", "/cursos")
+				.summary().totalAmount());
+		assertEquals(1.0, meterRegistry.get("cursos.sql.presupuesto.excedido").counter().count());
+		assertNull(MedicionSql.actual());
+	}
+
+	@Test
+	void sinModoDepuracionNoHayCabeceras() throws Exception {
+		ContabilidadSqlFilter filtro = new ContabilidadSqlFilter(propiedades, meterRegistry);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filtro.doFilter(new MockHttpServletRequest("GET", "/curso/A"), response,
+				(peticion, respuesta) -> jdbcTemplate.queryForList("SELECT codigo FROM cursos", String.class));
+
+		assertNull(response.getHeader("X-Sql-Sentencias"));
+		assertEquals(1.0, meterRegistry.get("cursos.sql.sentencias").summary().totalAmount());
+	}
+
+	@Test
+	void laMedicionSePropagaAOtrosHilos() {
+		MedicionSql medicion = MedicionSql.iniciar();
+		try {
+			CompletableFuture.supplyAsync(MedicionSql.propagar(
+					() -> jdbcTemplate.queryForList("SELECT codigo FROM cursos", String.class))).join();
+		} finally {
+			MedicionSql.terminar();
+		}
+		assertEquals(1, medicion.getSentencias());
+		assertEquals(3, medicion.getFilas());
+	}
+
+	@Test
+	void laFormaDeLosParametrosNoIncluyeValores() {
+		assertEquals("(1:String, 2:Int)", InstrumentadorSql.formaParametros(new TreeMap<>(Map.of(2, "Int", 1, "String"))));
+	}
+}